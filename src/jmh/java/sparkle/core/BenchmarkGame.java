@@ -0,0 +1,45 @@
+package sparkle.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+public final class BenchmarkGame {
+    private static final CountDownLatch started = new CountDownLatch(1);
+    private static Thread thread = null;
+
+    private BenchmarkGame() {}
+
+    public static synchronized void start() {
+        if (thread == null) {
+            var gameConfig = new GameConfig();
+            gameConfig.setRunMode(RunMode.HEADLESS_NO_RENDERING);
+            gameConfig.setSeed(0);
+            thread = new Thread(() -> Game.run(gameConfig, new HostScene()), "Benchmark Game");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Interrupted while starting benchmark game", e);
+        }
+    }
+
+    public static void setScene(Scene scene) {
+        start();
+        Game.setScene(scene);
+    }
+
+    private static final class HostScene extends Scene {
+        @Override
+        protected void initialize() {}
+
+        @Override
+        protected void update() {
+            started.countDown();
+            while (true) {
+                LockSupport.park();
+            }
+        }
+    }
+}
\ No newline at end of file
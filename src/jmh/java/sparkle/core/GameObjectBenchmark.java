@@ -0,0 +1,46 @@
+package sparkle.core;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.components.Aligner;
+import sparkle.drawables.Rectangle;
+import sparkle.drawables.Sprite;
+import sparkle.drawables.Text;
+import sparkle.math.Alignment;
+import sparkle.physics.BodyType;
+import sparkle.physics.RigidBody;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameObjectBenchmark {
+    private GameObject gameObject;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame.start();
+        gameObject = new GameObject("benchmark", new Rectangle(), new Sprite(), new Aligner(Alignment.CENTER), new RigidBody(BodyType.DYNAMIC));
+    }
+
+    @Benchmark
+    public RigidBody getComponent() {
+        return gameObject.getComponent(RigidBody.class);
+    }
+
+    @Benchmark
+    public Drawable getComponentBySupertype() {
+        return gameObject.getComponent(Drawable.class);
+    }
+
+    @Benchmark
+    public Text getComponentMissing() {
+        return gameObject.getComponent(Text.class);
+    }
+
+    @Benchmark
+    public List<Drawable> getComponents() {
+        return gameObject.getComponents(Drawable.class);
+    }
+}
\ No newline at end of file
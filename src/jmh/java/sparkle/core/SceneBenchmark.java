@@ -0,0 +1,71 @@
+package sparkle.core;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.drawables.Rectangle;
+import sparkle.math.Vector2;
+import sparkle.paints.Color;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SceneBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int gameObjects;
+    private Scene scene;
+
+    @Setup
+    public void setup() {
+        scene = new BenchmarkScene(gameObjects);
+        BenchmarkGame.setScene(scene);
+        scene.updateState();
+    }
+
+    @Benchmark
+    public void updateState() {
+        scene.updateState();
+    }
+
+    private static final class BenchmarkScene extends Scene {
+        private final int gameObjectCount;
+
+        private BenchmarkScene(int gameObjectCount) {
+            this.gameObjectCount = gameObjectCount;
+        }
+
+        @Override
+        protected void initialize() {
+            var columns = (int) Math.ceil(Math.sqrt(gameObjectCount));
+            for (var i = 0; i < gameObjectCount; i++) {
+                var gameObject = new GameObject("object" + i, new Vector2(i % columns * 24, i / columns * 24), new Vector2(16), i % 8);
+                gameObject.addComponent(new Oscillator(i));
+                if (i % 2 == 0) {
+                    gameObject.addComponent(new Rectangle(null, new Vector2(16), Color.WHITE));
+                }
+                gameObject.getTags().add(i % 3 == 0 ? "even" : "odd");
+                super.addGameObject(gameObject);
+            }
+        }
+
+        @Override
+        protected void update() {
+            super.updateState();
+        }
+    }
+
+    private static final class Oscillator extends Component {
+        private final float phase;
+        private float time;
+
+        private Oscillator(float phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        protected void update() {
+            time += Time.getDelta();
+            super.position.setY(super.position.getY() + (float) Math.sin(time + phase));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package sparkle.drawables;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.assets.Texture;
+import sparkle.core.BenchmarkGame;
+import sparkle.math.Vector2;
+import sparkle.paints.Color;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CullingBenchmark {
+    private Rectangle inside;
+    private Rectangle outside;
+    private Rectangle rotated;
+    private Rectangle stroked;
+    private Sprite sprite;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame.start();
+        inside = new Rectangle(new Vector2(100, 100), new Vector2(64), Color.WHITE);
+        outside = new Rectangle(new Vector2(-5000, -5000), new Vector2(64), Color.WHITE);
+        rotated = new Rectangle(new Vector2(100, 100), new Vector2(64), Color.WHITE, null, null, 0, 30);
+        stroked = new Rectangle(new Vector2(100, 100), new Vector2(64), Color.WHITE, Color.BLACK, StrokeType.ROUNDED, 4, 0);
+        sprite = new Sprite(new Vector2(100, 100), new Vector2(64), new Texture(64, 64));
+    }
+
+    @Benchmark
+    public boolean inside() {
+        return inside.isOutsideScreen();
+    }
+
+    @Benchmark
+    public boolean outside() {
+        return outside.isOutsideScreen();
+    }
+
+    @Benchmark
+    public boolean rotated() {
+        return rotated.isOutsideScreen();
+    }
+
+    @Benchmark
+    public boolean stroked() {
+        return stroked.isOutsideScreen();
+    }
+
+    @Benchmark
+    public boolean sprite() {
+        return sprite.isOutsideScreen();
+    }
+}
\ No newline at end of file
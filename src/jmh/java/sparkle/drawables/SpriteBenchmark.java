@@ -0,0 +1,47 @@
+package sparkle.drawables;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.assets.Texture;
+import sparkle.core.BenchmarkGame;
+import sparkle.math.Vector2;
+import sparkle.paints.Color;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpriteBenchmark {
+    @Param({"32", "256"})
+    private int textureSize;
+    private Sprite sprite;
+    private boolean toggle;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame.start();
+        var texture = new Texture(textureSize, textureSize);
+        sprite = new Sprite(new Vector2(), new Vector2(textureSize), texture);
+    }
+
+    @Benchmark
+    public Sprite updateAlpha() {
+        toggle = !toggle;
+        sprite.setAlpha(toggle ? 0.5f : 0.75f);
+        return sprite;
+    }
+
+    @Benchmark
+    public Sprite updateColor() {
+        toggle = !toggle;
+        sprite.setColor(toggle ? Color.WHITE : Color.GRAY);
+        return sprite;
+    }
+
+    @Benchmark
+    public Sprite updateBlur() {
+        toggle = !toggle;
+        sprite.setBlur(toggle ? 1 : 2);
+        return sprite;
+    }
+}
\ No newline at end of file
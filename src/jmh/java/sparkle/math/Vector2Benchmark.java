@@ -0,0 +1,57 @@
+package sparkle.math;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Vector2Benchmark {
+    private Vector2 a;
+    private Vector2 b;
+    private Vector2c c;
+
+    @Setup
+    public void setup() {
+        a = new Vector2(12.5f, -3.25f);
+        b = new Vector2(0.75f, 42);
+        c = new Vector2c(3, 4);
+    }
+
+    @Benchmark
+    public Vector2 plus() {
+        return a.plus(b);
+    }
+
+    @Benchmark
+    public Vector2 multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Vector2 normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public Vector2 chain() {
+        return a.plus(b).minus(c).multiply(0.5f).divide(2).normalize();
+    }
+
+    @Benchmark
+    public Vector2 clamp() {
+        return a.clampX(0, 10).clampY(0, 10);
+    }
+
+    @Benchmark
+    public void set() {
+        a.set(b);
+        b.set(a.getY(), a.getX());
+    }
+
+    @Benchmark
+    public boolean equality() {
+        return a.equals(c);
+    }
+}
\ No newline at end of file
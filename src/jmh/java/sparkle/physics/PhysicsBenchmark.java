@@ -0,0 +1,56 @@
+package sparkle.physics;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.core.BenchmarkGame;
+import sparkle.core.GameObject;
+import sparkle.core.Scene;
+import sparkle.math.Vector2;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsBenchmark {
+    @Param({"100", "1000"})
+    private int bodies;
+    private Scene scene;
+
+    @Setup
+    public void setup() {
+        scene = new BenchmarkScene(bodies);
+        BenchmarkGame.setScene(scene);
+        scene.updateState();
+    }
+
+    @Benchmark
+    public void update() {
+        scene.getPhysics().update();
+    }
+
+    private static final class BenchmarkScene extends Scene {
+        private final int bodyCount;
+
+        private BenchmarkScene(int bodyCount) {
+            this.bodyCount = bodyCount;
+        }
+
+        @Override
+        protected void initialize() {
+            var columns = (int) Math.ceil(Math.sqrt(bodyCount));
+            var ground = new GameObject("ground", new Vector2(-100, columns * 32 + 100), new Vector2(columns * 32 + 200, 32));
+            ground.addComponent(new RigidBody(BodyType.STATIC));
+            super.addGameObject(ground);
+            for (var i = 0; i < bodyCount; i++) {
+                var gameObject = new GameObject("body" + i, new Vector2(i % columns * 32, i / columns * 32), new Vector2(16));
+                gameObject.addComponent(new RigidBody(BodyType.DYNAMIC));
+                super.addGameObject(gameObject);
+            }
+        }
+
+        @Override
+        protected void update() {
+            super.updateState();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package sparkle.xml;
+
+import org.openjdk.jmh.annotations.*;
+import sparkle.core.BenchmarkGame;
+import sparkle.core.GameObject;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XMLDocumentBenchmark {
+    private URL url;
+    private XMLDocument document;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame.start();
+        url = XMLDocumentBenchmark.class.getResource("/benchmark.xml");
+        document = new XMLDocument(url);
+    }
+
+    @Benchmark
+    public XMLDocument parse() {
+        return new XMLDocument(url);
+    }
+
+    @Benchmark
+    public List<GameObject> instantiate() {
+        return document.instantiateGameObjects();
+    }
+}
\ No newline at end of file
@@ -35,6 +35,7 @@ public final class Audio {
         initializeOpenAL();
     }
 
+    private final URL url;
     private final ByteBuffer inputStreamBuffer;
     private final boolean loop;
     private final List<Clip> clips;
@@ -50,7 +51,8 @@ public final class Audio {
     }
 
     public Audio(URL url, float volume, boolean loop) {
-        inputStreamBuffer = loadInputStreamBuffer(Objects.requireNonNull(url));
+        this.url = Objects.requireNonNull(url);
+        inputStreamBuffer = loadInputStreamBuffer(url);
         this.volume = clampVolume(volume);
         this.loop = loop;
         clips = new ArrayList<>();
@@ -131,6 +133,10 @@ public final class Audio {
         clips.clear();
     }
 
+    public URL getURL() {
+        return url;
+    }
+
     public State getState() {
         cleanClips();
         for (var clip : clips) {
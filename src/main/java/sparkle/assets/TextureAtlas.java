@@ -8,8 +8,10 @@ import java.util.Objects;
 
 public final class TextureAtlas {
     private final List<Texture> textures;
+    private final Texture texture;
     private final float textureWidth;
     private final float textureHeight;
+    private final int spacing;
 
     public TextureAtlas(Texture texture, int nbRows, int nbCols) {
         this(texture, (texture.getWidth() / (float) nbCols), (texture.getHeight() / (float) nbRows), nbRows * nbCols, 0);
@@ -17,15 +19,29 @@ public final class TextureAtlas {
 
     public TextureAtlas(Texture texture, float textureWidth, float textureHeight, int nbTexture, int spacing) {
         textures = new ArrayList<>();
+        this.texture = Objects.requireNonNull(texture);
         this.textureWidth = textureWidth;
         this.textureHeight = textureHeight;
-        loadTextures(Objects.requireNonNull(texture), nbTexture, spacing);
+        this.spacing = spacing;
+        loadTextures(texture, nbTexture, spacing);
     }
 
     public Texture getTexture(int index) {
         return textures.get(index);
     }
 
+    public Texture getSourceTexture() {
+        return texture;
+    }
+
+    public int getTextureCount() {
+        return textures.size();
+    }
+
+    public int getSpacing() {
+        return spacing;
+    }
+
     public float getTextureWidth() {
         return textureWidth;
     }
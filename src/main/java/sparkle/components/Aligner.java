@@ -14,6 +14,8 @@ public final class Aligner extends Component {
     private Vector2Base position;
     private Vector2Base size;
     private Alignment alignment;
+    private Bounds bounds;
+    private GameObject gameObject;
 
     public Aligner(Alignment alignment) {
         this(alignment, (Bounds) null);
@@ -32,6 +34,7 @@ public final class Aligner extends Component {
         this.offset = new ObservableVector2(offset, (oX, oY, nX, nY) -> trigger());
         position = bounds == null ? new Vector2() : bounds.getPosition();
         size = bounds == null ? Game.getSize() : bounds.getSize();
+        this.bounds = bounds;
     }
 
     public Aligner(Alignment alignment, GameObject gameObject, Vector2Base offset) {
@@ -39,6 +42,7 @@ public final class Aligner extends Component {
         this.offset = new ObservableVector2(offset, (oX, oY, nX, nY) -> trigger());
         position = gameObject == null ? new Vector2() : gameObject.getPosition();
         size = gameObject == null ? Game.getSize() : gameObject.getSize();
+        this.gameObject = gameObject;
     }
 
     @Override
@@ -60,17 +64,29 @@ public final class Aligner extends Component {
         trigger();
     }
 
+    public Bounds getBounds() {
+        return bounds;
+    }
+
     public void setBounds(Bounds bounds) {
         position = bounds == null ? new Vector2() : bounds.getPosition();
         size = bounds == null ? Game.getSize() : bounds.getSize();
+        this.bounds = bounds;
+        gameObject = null;
         if (super.getGameObject() != null) {
             trigger();
         }
     }
 
+    public GameObject getBoundsGameObject() {
+        return gameObject;
+    }
+
     public void setGameObject(GameObject gameObject) {
         position = gameObject == null ? new Vector2() : gameObject.getPosition();
         size = gameObject == null ? Game.getSize() : gameObject.getSize();
+        this.gameObject = gameObject;
+        bounds = null;
         if (super.getGameObject() != null) {
             trigger();
         }
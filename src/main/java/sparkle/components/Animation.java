@@ -20,6 +20,7 @@ public final class Animation extends Component {
     private int index;
     private int cycle;
     private boolean destroyOnFinished;
+    private boolean resumePending;
 
     public Animation(TextureAtlas textureAtlas, float delay, int beginIndex, int endIndex, int cycleCount) {
         this.textureAtlas = Objects.requireNonNull(textureAtlas);
@@ -34,6 +35,10 @@ public final class Animation extends Component {
 
     @Override
     protected void start() {
+        if (resumePending) {
+            resumePending = false;
+            return;
+        }
         reset();
     }
 
@@ -69,6 +74,13 @@ public final class Animation extends Component {
         cycle = 0;
     }
 
+    public void resume(int index, int cycle, float timeLeft) {
+        setIndex(index);
+        setCycle(cycle);
+        setTimeLeft(timeLeft);
+        resumePending = true;
+    }
+
     public TextureAtlas getTextureAtlas() {
         return textureAtlas;
     }
@@ -88,6 +100,29 @@ public final class Animation extends Component {
         this.index = index;
     }
 
+    public int getCycle() {
+        return cycle;
+    }
+
+    public void setCycle(int cycle) {
+        if (cycle < 0 || (cycleCount != INDEFINITE && cycle > cycleCount)) {
+            throw new IllegalArgumentException("The current cycle must be between zero and the cycle count");
+        }
+        this.cycle = cycle;
+    }
+
+    public int getCycleCount() {
+        return cycleCount;
+    }
+
+    public float getTimeLeft() {
+        return timeLeft;
+    }
+
+    public void setTimeLeft(float timeLeft) {
+        this.timeLeft = timeLeft;
+    }
+
     public float getDelay() {
         return delay;
     }
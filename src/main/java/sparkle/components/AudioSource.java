@@ -29,4 +29,8 @@ public final class AudioSource extends Component {
     public Audio getAudio() {
         return audio;
     }
+
+    public boolean isPlayingOnStart() {
+        return playOnStart;
+    }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ public final class Bar extends Component {
     private FillDirection fillDirection;
     private float value;
     private boolean spriteCleaned;
+    private State initialState;
 
     public Bar() {
         this(null, null);
@@ -48,12 +49,40 @@ public final class Bar extends Component {
         updateDrawables();
     }
 
+    @Override
+    protected void start() {
+        if (initialState == null) {
+            initialState = new State(textAlignment, getColor(), getAlpha(), getBlur(), getRotation(), isFlippedHorizontally(), isFlippedVertically(), fillDirection, value, getBackground(), getForeground(), getStroke(), getText(), getTextFill());
+        }
+    }
+
+    @Override
+    protected void recycle() {
+        if (initialState == null) {
+            return;
+        }
+        setTextAlignment(initialState.textAlignment());
+        setColor(initialState.color());
+        setAlpha(initialState.alpha());
+        setBlur(initialState.blur());
+        setRotation(initialState.rotation());
+        setFlippedHorizontally(initialState.flippedHorizontally());
+        setFlippedVertically(initialState.flippedVertically());
+        setFillDirection(initialState.fillDirection());
+        setValue(initialState.value());
+        setBackground(initialState.background());
+        setForeground(initialState.foreground());
+        setStroke(initialState.stroke());
+        setText(initialState.text());
+        setTextFill(initialState.textFill());
+    }
+
     @Override
     protected void update() {
         updateSprite();
         var body = super.getComponent(RigidBody.class);
         if (body != null) {
-            setRotation(body.getRotation());
+            setRotation(body.getInterpolatedRotation());
         }
         Game.getRenderer().draw(sprite);
     }
@@ -423,4 +452,6 @@ public final class Bar extends Component {
 
         protected abstract void update(Bar bar);
     }
+
+    private record State(Alignment textAlignment, Color color, float alpha, float blur, float rotation, boolean flippedHorizontally, boolean flippedVertically, FillDirection fillDirection, float value, Paint background, Paint foreground, Paint stroke, String text, Paint textFill) {}
 }
\ No newline at end of file
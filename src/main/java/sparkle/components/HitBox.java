@@ -42,11 +42,17 @@ public final class HitBox extends Component implements ContactListener {
         type.setSize(this);
     }
 
+    @Override
+    protected void recycle() {
+        colliders.clear();
+        deadColliders.clear();
+    }
+
     @Override
     protected void fixedUpdate() {
         type.setPosition(this);
         for (var collider : colliders) {
-            if (!Game.getScene().getGameObjects().contains(collider)) {
+            if (collider.getScene() != Game.getScene()) {
                 deadColliders.add(collider);
             }
         }
@@ -0,0 +1,5 @@
+package sparkle.components;
+
+import sparkle.core.MouseButton;
+
+public record MouseEvent(MouseEventType type, MouseButton mouseButton) {}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package sparkle.components;
+
+public enum MouseEventType {
+    ENTER,
+    INSIDE,
+    LEAVE,
+    BUTTON_CLICKED,
+    BUTTON_PRESSED,
+    BUTTON_RELEASED
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package sparkle.components;
 
 import sparkle.core.Component;
+import sparkle.core.EventBus;
 import sparkle.core.MouseButton;
 import sparkle.core.MouseInput;
 import sparkle.math.Vector2Base;
@@ -11,6 +12,12 @@ import java.util.Objects;
 
 public final class MouseHandler extends Component {
     private static final MouseButton[] MOUSE_BUTTONS = MouseButton.values();
+    private static final MouseEvent ENTER_EVENT = new MouseEvent(MouseEventType.ENTER, null);
+    private static final MouseEvent INSIDE_EVENT = new MouseEvent(MouseEventType.INSIDE, null);
+    private static final MouseEvent LEAVE_EVENT = new MouseEvent(MouseEventType.LEAVE, null);
+    private static final MouseEvent[] CLICKED_EVENTS = createButtonEvents(MouseEventType.BUTTON_CLICKED);
+    private static final MouseEvent[] PRESSED_EVENTS = createButtonEvents(MouseEventType.BUTTON_PRESSED);
+    private static final MouseEvent[] RELEASED_EVENTS = createButtonEvents(MouseEventType.BUTTON_RELEASED);
     private Vector2Base offset;
     private boolean mouseInside;
 
@@ -25,8 +32,12 @@ public final class MouseHandler extends Component {
     @Override
     protected void update() {
         var mouseListeners = super.getComponents(MouseListener.class);
-        updateMouseMovementCallbacks(mouseListeners);
-        updateMouseButtonCallbacks(mouseListeners);
+        var events = super.getGameObject().getEvents();
+        if (!events.hasListeners(MouseEvent.class)) {
+            events = null;
+        }
+        updateMouseMovementCallbacks(mouseListeners, events);
+        updateMouseButtonCallbacks(mouseListeners, events);
     }
 
     public Vector2Base getOffset() {
@@ -37,7 +48,15 @@ public final class MouseHandler extends Component {
         this.offset = Objects.requireNonNullElse(offset, new Vector2c());
     }
 
-    private void updateMouseMovementCallbacks(List<MouseListener> mouseListeners) {
+    private static MouseEvent[] createButtonEvents(MouseEventType type) {
+        var events = new MouseEvent[MOUSE_BUTTONS.length];
+        for (var mouseButton : MOUSE_BUTTONS) {
+            events[mouseButton.ordinal()] = new MouseEvent(type, mouseButton);
+        }
+        return events;
+    }
+
+    private void updateMouseMovementCallbacks(List<MouseListener> mouseListeners, EventBus events) {
         var mouseInside = isMouseInside();
         var mouseEnter = !this.mouseInside && mouseInside;
         var mouseLeave = this.mouseInside && !isMouseInside();
@@ -52,10 +71,21 @@ public final class MouseHandler extends Component {
                 mouseListener.onMouseLeave();
             }
         }
+        if (events != null) {
+            if (mouseEnter) {
+                events.publish(ENTER_EVENT);
+            }
+            if (mouseInside) {
+                events.publish(INSIDE_EVENT);
+            }
+            if (mouseLeave) {
+                events.publish(LEAVE_EVENT);
+            }
+        }
         this.mouseInside = mouseInside;
     }
 
-    private void updateMouseButtonCallbacks(List<MouseListener> mouseListeners) {
+    private void updateMouseButtonCallbacks(List<MouseListener> mouseListeners, EventBus events) {
         if (!mouseInside) {
             return;
         }
@@ -72,6 +102,20 @@ public final class MouseHandler extends Component {
                 }
             }
         }
+        if (events == null) {
+            return;
+        }
+        for (var mouseButton : MOUSE_BUTTONS) {
+            if (MouseInput.isMouseClicked(mouseButton)) {
+                events.publish(CLICKED_EVENTS[mouseButton.ordinal()]);
+            }
+            if (MouseInput.isMousePressed(mouseButton)) {
+                events.publish(PRESSED_EVENTS[mouseButton.ordinal()]);
+            }
+            if (MouseInput.isMouseReleased(mouseButton)) {
+                events.publish(RELEASED_EVENTS[mouseButton.ordinal()]);
+            }
+        }
     }
 
     private boolean isMouseInside() {
@@ -0,0 +1,23 @@
+package sparkle.components;
+
+import sparkle.core.Component;
+import sparkle.core.Game;
+import sparkle.core.RenderLayer;
+
+public final class RenderLayerInitializer extends Component {
+    private final RenderLayer renderLayer;
+
+    public RenderLayerInitializer(RenderLayer renderLayer) {
+        this.renderLayer = renderLayer;
+    }
+
+    @Override
+    protected void start() {
+        Game.getScene().addRenderLayer(renderLayer);
+        var gameObject = super.getGameObject();
+        super.removeComponent(this);
+        if (gameObject.getComponents().size() == 1) {
+            Game.getScene().removeGameObject(gameObject);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package sparkle.core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Objects;
+
+final class BakedLayer extends Drawable {
+    private static final BufferedImage[] NO_CHUNKS = new BufferedImage[0];
+    private BufferedImage[] chunks;
+    private int chunkWidth;
+    private int chunkHeight;
+    private int columns;
+    private int rows;
+    private float regionX;
+    private float regionY;
+
+    BakedLayer() {
+        super.setRenderingMode(RenderingMode.SCREEN);
+        chunks = NO_CHUNKS;
+    }
+
+    @Override
+    public boolean isOutsideScreen() {
+        if (chunks.length == 0) {
+            return true;
+        }
+        var x = getChunkScreenX(0);
+        var y = getChunkScreenY(0);
+        return x >= Game.getWidth() || y >= Game.getHeight() || x + columns * chunkWidth <= 0 || y + rows * chunkHeight <= 0;
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        var x = getChunkScreenX(0);
+        var y = getChunkScreenY(0);
+        super.setScreenBounds(x, y, x + columns * chunkWidth, y + rows * chunkHeight);
+        return true;
+    }
+
+    @Override
+    protected void render(Graphics2D graphics) {
+        if (isOutsideScreen()) {
+            return;
+        }
+        var width = Game.getWidth();
+        var height = Game.getHeight();
+        for (var row = 0; row < rows; row++) {
+            var y = getChunkScreenY(row);
+            if (y >= height || y + chunkHeight <= 0) {
+                continue;
+            }
+            for (var column = 0; column < columns; column++) {
+                var chunk = chunks[row * columns + column];
+                var x = getChunkScreenX(column);
+                if (chunk == null || x >= width || x + chunkWidth <= 0) {
+                    continue;
+                }
+                graphics.drawImage(chunk, x, y, null);
+            }
+        }
+    }
+
+    void bake(List<Drawable> drawables, Graphics2D graphics, Interpolation interpolation) {
+        super.invalidate();
+        if (drawables.isEmpty()) {
+            release();
+            return;
+        }
+        var camera = Game.getScene().getCamera();
+        var cameraX = camera.getX();
+        var cameraY = camera.getY();
+        chunkWidth = Game.getWidth();
+        chunkHeight = Game.getHeight();
+        var bounds = new float[drawables.size() * 4];
+        var bounded = new boolean[drawables.size()];
+        var minX = Float.POSITIVE_INFINITY;
+        var minY = Float.POSITIVE_INFINITY;
+        var maxX = Float.NEGATIVE_INFINITY;
+        var maxY = Float.NEGATIVE_INFINITY;
+        for (var i = 0; i < bounded.length; i++) {
+            var drawable = drawables.get(i);
+            drawable.resolveInterpolationOffset();
+            bounded[i] = drawable.updateScreenBounds();
+            if (bounded[i]) {
+                bounds[i * 4] = drawable.getScreenMinX() + cameraX;
+                bounds[i * 4 + 1] = drawable.getScreenMinY() + cameraY;
+                bounds[i * 4 + 2] = drawable.getScreenMaxX() + cameraX;
+                bounds[i * 4 + 3] = drawable.getScreenMaxY() + cameraY;
+            } else {
+                bounds[i * 4] = cameraX;
+                bounds[i * 4 + 1] = cameraY;
+                bounds[i * 4 + 2] = cameraX + chunkWidth;
+                bounds[i * 4 + 3] = cameraY + chunkHeight;
+            }
+            minX = Math.min(minX, bounds[i * 4]);
+            minY = Math.min(minY, bounds[i * 4 + 1]);
+            maxX = Math.max(maxX, bounds[i * 4 + 2]);
+            maxY = Math.max(maxY, bounds[i * 4 + 3]);
+        }
+        regionX = (float) Math.floor(minX);
+        regionY = (float) Math.floor(minY);
+        columns = Math.max(1, (int) Math.ceil((maxX - regionX) / chunkWidth));
+        rows = Math.max(1, (int) Math.ceil((maxY - regionY) / chunkHeight));
+        chunks = new BufferedImage[columns * rows];
+        var renderingHints = graphics.getRenderingHints();
+        var profiler = Profiler.getInstance();
+        try {
+            for (var row = 0; row < rows; row++) {
+                for (var column = 0; column < columns; column++) {
+                    var chunkX = regionX + column * chunkWidth;
+                    var chunkY = regionY + row * chunkHeight;
+                    camera.set(chunkX, chunkY);
+                    var chunkGraphics = (Graphics2D) null;
+                    try {
+                        for (var i = 0; i < bounded.length; i++) {
+                            if (bounded[i] && !intersectsChunk(bounds, i * 4, chunkX, chunkY)) {
+                                continue;
+                            }
+                            if (chunkGraphics == null) {
+                                var chunk = new BufferedImage(chunkWidth, chunkHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+                                chunks[row * columns + column] = chunk;
+                                chunkGraphics = chunk.createGraphics();
+                                chunkGraphics.setRenderingHints(renderingHints);
+                            }
+                            var drawable = drawables.get(i);
+                            chunkGraphics.setRenderingHint(Interpolation.key, Objects.requireNonNullElse(drawable.getInterpolation(), interpolation).value);
+                            drawable.render(chunkGraphics);
+                            profiler.countDraw();
+                        }
+                    } finally {
+                        if (chunkGraphics != null) {
+                            chunkGraphics.dispose();
+                        }
+                    }
+                }
+            }
+        } finally {
+            camera.set(cameraX, cameraY);
+        }
+    }
+
+    void release() {
+        chunks = NO_CHUNKS;
+        columns = 0;
+        rows = 0;
+    }
+
+    private boolean intersectsChunk(float[] bounds, int offset, float chunkX, float chunkY) {
+        return bounds[offset] < chunkX + chunkWidth && bounds[offset + 1] < chunkY + chunkHeight && bounds[offset + 2] > chunkX && bounds[offset + 3] > chunkY;
+    }
+
+    private int getChunkScreenX(int column) {
+        return Math.round(regionX + column * chunkWidth - Game.getScene().getCamera().getX());
+    }
+
+    private int getChunkScreenY(int row) {
+        return Math.round(regionY + row * chunkHeight - Game.getScene().getCamera().getY());
+    }
+}
\ No newline at end of file
@@ -10,6 +10,7 @@ public abstract class Component {
     protected Vector2 position;
     protected Vector2 size;
     private GameObject gameObject;
+    private List<Subscription<?>> subscriptions;
 
     protected void start() {}
 
@@ -19,6 +20,8 @@ public abstract class Component {
 
     protected void destroy() {}
 
+    protected void recycle() {}
+
     protected void onPositionChanged(float oldX, float oldY, float newX, float newY) {}
 
     protected void onSizeChanged(float oldX, float oldY, float newX, float newY) {}
@@ -72,10 +75,45 @@ public abstract class Component {
         return gameObject.getComponents();
     }
 
+    protected <E> void subscribe(Class<E> eventClass, EventListener<? super E> listener) {
+        if (gameObject == null) {
+            return;
+        }
+        subscribe(gameObject.getEvents(), eventClass, listener);
+    }
+
+    protected <E> void subscribeToScene(Class<E> eventClass, EventListener<? super E> listener) {
+        var scene = gameObject == null || gameObject.getScene() == null ? Game.getScene() : gameObject.getScene();
+        subscribe(scene.getEvents(), eventClass, listener);
+    }
+
+    protected <E> void unsubscribe(Class<E> eventClass, EventListener<? super E> listener) {
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.removeIf(subscription -> {
+            if (subscription.eventClass() != eventClass || subscription.listener() != listener) {
+                return false;
+            }
+            subscription.cancel();
+            return true;
+        });
+    }
+
     public GameObject getGameObject() {
         return gameObject;
     }
 
+    void unsubscribeAll() {
+        if (subscriptions == null) {
+            return;
+        }
+        for (var subscription : subscriptions) {
+            subscription.cancel();
+        }
+        subscriptions = null;
+    }
+
     void setGameObject(GameObject gameObject) {
         this.gameObject = gameObject;
         position = null;
@@ -85,4 +123,18 @@ public abstract class Component {
             size = gameObject.getSize();
         }
     }
+
+    private <E> void subscribe(EventBus events, Class<E> eventClass, EventListener<? super E> listener) {
+        events.subscribe(eventClass, listener);
+        if (subscriptions == null) {
+            subscriptions = new ArrayList<>();
+        }
+        subscriptions.add(new Subscription<>(events, eventClass, listener));
+    }
+
+    private record Subscription<E>(EventBus events, Class<E> eventClass, EventListener<? super E> listener) {
+        private void cancel() {
+            events.unsubscribe(eventClass, listener);
+        }
+    }
 }
\ No newline at end of file
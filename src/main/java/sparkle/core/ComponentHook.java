@@ -0,0 +1,34 @@
+package sparkle.core;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+enum ComponentHook {
+    UPDATE("update"),
+    FIXED_UPDATE("fixedUpdate"),
+    POSITION_CHANGED("onPositionChanged", float.class, float.class, float.class, float.class),
+    SIZE_CHANGED("onSizeChanged", float.class, float.class, float.class, float.class);
+
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+
+    ComponentHook(String methodName, Class<?>... parameterTypes) {
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    boolean isOverriddenBy(Class<?> componentClass) {
+        return getOverride(componentClass) != null;
+    }
+
+    Method getOverride(Class<?> componentClass) {
+        for (var type = componentClass; type != null && type != Component.class; type = type.getSuperclass()) {
+            for (var method : type.getDeclaredMethods()) {
+                if (method.getName().equals(methodName) && Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
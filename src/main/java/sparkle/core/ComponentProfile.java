@@ -0,0 +1,7 @@
+package sparkle.core;
+
+public record ComponentProfile(Class<? extends Component> componentClass, float updateTime, long updateCount, float fixedUpdateTime, long fixedUpdateCount) {
+    public float getTotalTime() {
+        return updateTime + fixedUpdateTime;
+    }
+}
@@ -0,0 +1,80 @@
+package sparkle.core;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class ComponentType {
+    private static final AtomicInteger idCount = new AtomicInteger();
+    private static final ClassValue<ComponentType> componentTypes = new ClassValue<>() {
+        @Override
+        protected ComponentType computeValue(Class<?> type) {
+            return new ComponentType(type);
+        }
+    };
+    private final int id;
+    private final List<Class<?>> types;
+    private final BitSet mask;
+    private final Set<ComponentHook> hooks;
+    private final boolean parallelSafe;
+
+    private ComponentType(Class<?> type) {
+        id = idCount.getAndIncrement();
+        var types = new LinkedHashSet<Class<?>>();
+        collectTypes(type, types);
+        this.types = List.copyOf(types);
+        mask = new BitSet();
+        mask.set(id);
+        for (var superType : this.types) {
+            if (superType != type) {
+                mask.or(of(superType).mask);
+            }
+        }
+        hooks = EnumSet.noneOf(ComponentHook.class);
+        if (Component.class.isAssignableFrom(type)) {
+            for (var hook : ComponentHook.values()) {
+                if (hook.isOverriddenBy(type)) {
+                    hooks.add(hook);
+                }
+            }
+        }
+        parallelSafe = hooks.contains(ComponentHook.UPDATE) && !Drawable.class.isAssignableFrom(type) && (type.isAnnotationPresent(ParallelSafe.class) || ComponentHook.UPDATE.getOverride(type).isAnnotationPresent(ParallelSafe.class));
+    }
+
+    static ComponentType of(Class<?> type) {
+        return componentTypes.get(type);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    List<Class<?>> getTypes() {
+        return types;
+    }
+
+    BitSet getMask() {
+        return mask;
+    }
+
+    boolean hasHook(ComponentHook hook) {
+        return hooks.contains(hook);
+    }
+
+    boolean isParallelSafe() {
+        return parallelSafe;
+    }
+
+    private static void collectTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+        collectTypes(type.getSuperclass(), types);
+        for (var anInterface : type.getInterfaces()) {
+            collectTypes(anInterface, types);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package sparkle.core;
+
+public interface Coroutine {
+    float DONE = -1;
+
+    float resume();
+}
\ No newline at end of file
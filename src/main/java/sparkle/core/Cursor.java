@@ -43,23 +43,25 @@ public final class Cursor {
         cursors.add(NONE);
     }
 
-    private final java.awt.Cursor cursor;
+    private final Texture texture;
     private final String name;
+    private final int code;
+    private java.awt.Cursor cursor;
 
     public Cursor(Texture texture) {
         this(null, texture);
     }
 
     private Cursor(String name, Texture texture) {
-        var cursorTexture = Objects.requireNonNullElse(texture, new Texture(1, 1));
-        var toolkit = Toolkit.getDefaultToolkit();
+        this.texture = texture;
         this.name = Objects.requireNonNullElse(name, super.toString());
-        cursor = toolkit.createCustomCursor((cursorTexture.getImage() == null ? new Texture(1, 1) : cursorTexture).getImage(), new Point(), "");
+        code = -1;
     }
 
     private Cursor(String name, int code) {
-        this.cursor = new java.awt.Cursor(code);
+        texture = null;
         this.name = name;
+        this.code = code;
     }
 
     public static Cursor valueOf(String name) {
@@ -81,6 +83,21 @@ public final class Cursor {
     }
 
     java.awt.Cursor getCursor() {
+        if (cursor == null) {
+            cursor = createCursor();
+        }
         return cursor;
     }
+
+    private java.awt.Cursor createCursor() {
+        if (code != -1) {
+            return new java.awt.Cursor(code);
+        }
+        if (GraphicsEnvironment.isHeadless()) {
+            return java.awt.Cursor.getDefaultCursor();
+        }
+        var cursorTexture = Objects.requireNonNullElse(texture, new Texture(1, 1));
+        var toolkit = Toolkit.getDefaultToolkit();
+        return toolkit.createCustomCursor((cursorTexture.getImage() == null ? new Texture(1, 1) : cursorTexture).getImage(), new Point(), "");
+    }
 }
\ No newline at end of file
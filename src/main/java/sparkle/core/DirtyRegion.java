@@ -0,0 +1,134 @@
+package sparkle.core;
+
+final class DirtyRegion {
+    private static final int MAX_RECTANGLES = 8;
+    private final float[] minX;
+    private final float[] minY;
+    private final float[] maxX;
+    private final float[] maxY;
+    private int size;
+    private boolean full;
+
+    DirtyRegion() {
+        minX = new float[MAX_RECTANGLES];
+        minY = new float[MAX_RECTANGLES];
+        maxX = new float[MAX_RECTANGLES];
+        maxY = new float[MAX_RECTANGLES];
+    }
+
+    void add(float minX, float minY, float maxX, float maxY) {
+        if (full) {
+            return;
+        }
+        minX = Math.max(0, (float) Math.floor(minX));
+        minY = Math.max(0, (float) Math.floor(minY));
+        maxX = Math.min(Game.getWidth(), (float) Math.ceil(maxX));
+        maxY = Math.min(Game.getHeight(), (float) Math.ceil(maxY));
+        if (minX >= maxX || minY >= maxY) {
+            return;
+        }
+        var merged = true;
+        while (merged) {
+            merged = false;
+            for (var i = 0; i < size; i++) {
+                if (this.minX[i] <= maxX && this.maxX[i] >= minX && this.minY[i] <= maxY && this.maxY[i] >= minY) {
+                    minX = Math.min(minX, this.minX[i]);
+                    minY = Math.min(minY, this.minY[i]);
+                    maxX = Math.max(maxX, this.maxX[i]);
+                    maxY = Math.max(maxY, this.maxY[i]);
+                    remove(i);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+        if (size == MAX_RECTANGLES) {
+            var index = getCheapestMerge(minX, minY, maxX, maxY);
+            var mergedMinX = Math.min(minX, this.minX[index]);
+            var mergedMinY = Math.min(minY, this.minY[index]);
+            var mergedMaxX = Math.max(maxX, this.maxX[index]);
+            var mergedMaxY = Math.max(maxY, this.maxY[index]);
+            remove(index);
+            add(mergedMinX, mergedMinY, mergedMaxX, mergedMaxY);
+            return;
+        }
+        this.minX[size] = minX;
+        this.minY[size] = minY;
+        this.maxX[size] = maxX;
+        this.maxY[size] = maxY;
+        size++;
+    }
+
+    void addAll() {
+        full = true;
+        size = 0;
+    }
+
+    boolean isFull() {
+        return full;
+    }
+
+    boolean isEmpty() {
+        return !full && size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getX(int index) {
+        return (int) minX[index];
+    }
+
+    int getY(int index) {
+        return (int) minY[index];
+    }
+
+    int getWidth(int index) {
+        return (int) (maxX[index] - minX[index]);
+    }
+
+    int getHeight(int index) {
+        return (int) (maxY[index] - minY[index]);
+    }
+
+    boolean intersects(int x, int y, int width, int height) {
+        if (full) {
+            return true;
+        }
+        for (var i = 0; i < size; i++) {
+            if (minX[i] < x + width && maxX[i] > x && minY[i] < y + height && maxY[i] > y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void clear() {
+        size = 0;
+        full = false;
+    }
+
+    private int getCheapestMerge(float minX, float minY, float maxX, float maxY) {
+        var result = 0;
+        var cheapestGrowth = Float.POSITIVE_INFINITY;
+        for (var i = 0; i < size; i++) {
+            var area = (this.maxX[i] - this.minX[i]) * (this.maxY[i] - this.minY[i]);
+            var mergedArea = (Math.max(maxX, this.maxX[i]) - Math.min(minX, this.minX[i])) * (Math.max(maxY, this.maxY[i]) - Math.min(minY, this.minY[i]));
+            var growth = mergedArea - area;
+            if (growth < cheapestGrowth) {
+                cheapestGrowth = growth;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private void remove(int index) {
+        size--;
+        minX[index] = minX[size];
+        minY[index] = minY[size];
+        maxX[index] = maxX[size];
+        maxY[index] = maxY[size];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package sparkle.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class DirtyTracker {
+    private final DirtyRegion region;
+    private final List<float[]> immediateBounds;
+    private List<Drawable> renderedDrawables;
+    private List<Drawable> previousDrawables;
+    private long frame;
+    private boolean frameInvalidated;
+    private boolean changed;
+
+    DirtyTracker() {
+        region = new DirtyRegion();
+        renderedDrawables = new ArrayList<>();
+        previousDrawables = new ArrayList<>();
+        immediateBounds = new ArrayList<>();
+        frameInvalidated = true;
+    }
+
+    void beginFrame() {
+        frame++;
+        changed = false;
+        region.clear();
+        if (frameInvalidated) {
+            region.addAll();
+            frameInvalidated = false;
+        }
+        for (var bounds : immediateBounds) {
+            region.add(bounds[0], bounds[1], bounds[2], bounds[3]);
+        }
+        immediateBounds.clear();
+    }
+
+    void invalidate() {
+        region.addAll();
+    }
+
+    void invalidateNextFrame() {
+        frameInvalidated = true;
+    }
+
+    void track(RenderQueue.Command command) {
+        var drawable = command.getDrawable();
+        var record = drawable.getRenderRecord();
+        if (record.frame == frame) {
+            region.addAll();
+        } else if (record.frame != frame - 1) {
+            renderedDrawables.add(drawable);
+        } else {
+            renderedDrawables.add(drawable);
+            if (record.isChanged(command)) {
+                record.addTo(region);
+            } else {
+                record.frame = frame;
+                return;
+            }
+        }
+        record.update(command, frame);
+        record.addTo(region);
+    }
+
+    void trackImmediate(Drawable drawable) {
+        if (!drawable.updateScreenBounds()) {
+            changed = true;
+            frameInvalidated = true;
+            return;
+        }
+        changed = true;
+        immediateBounds.add(new float[]{drawable.getScreenMinX(), drawable.getScreenMinY(), drawable.getScreenMaxX(), drawable.getScreenMaxY()});
+    }
+
+    void collectRemoved() {
+        for (var drawable : previousDrawables) {
+            var record = drawable.getRenderRecord();
+            if (record.frame != frame) {
+                record.addTo(region);
+            }
+        }
+        var previousDrawables = this.previousDrawables;
+        previousDrawables.clear();
+        this.previousDrawables = renderedDrawables;
+        renderedDrawables = previousDrawables;
+    }
+
+    DirtyRegion getRegion() {
+        return region;
+    }
+
+    void markChanged() {
+        changed = true;
+    }
+
+    boolean isChanged() {
+        return changed;
+    }
+
+    static final class Record {
+        private Object state;
+        private Interpolation interpolation;
+        private long frame = -1;
+        private int layer;
+        private boolean bounded;
+        private boolean dirty;
+        private float minX;
+        private float minY;
+        private float maxX;
+        private float maxY;
+
+        void invalidate() {
+            dirty = true;
+        }
+
+        private boolean isChanged(RenderQueue.Command command) {
+            if (dirty || !bounded || !command.isBounded() || layer != command.getLayer() || interpolation != command.getInterpolation() || !Objects.equals(state, command.getState())) {
+                return true;
+            }
+            return minX != command.getMinX() || minY != command.getMinY() || maxX != command.getMaxX() || maxY != command.getMaxY();
+        }
+
+        private void update(RenderQueue.Command command, long frame) {
+            this.frame = frame;
+            state = command.getState();
+            interpolation = command.getInterpolation();
+            layer = command.getLayer();
+            bounded = command.isBounded();
+            minX = command.getMinX();
+            minY = command.getMinY();
+            maxX = command.getMaxX();
+            maxY = command.getMaxY();
+            dirty = false;
+        }
+
+        private void addTo(DirtyRegion region) {
+            if (!bounded) {
+                region.addAll();
+                return;
+            }
+            region.add(minX, minY, maxX, maxY);
+        }
+    }
+}
\ No newline at end of file
@@ -2,13 +2,30 @@ package sparkle.core;
 
 import sparkle.math.Vector2;
 import sparkle.math.Vector2Base;
+import sparkle.physics.RigidBody;
 
 import java.awt.*;
 import java.util.Objects;
 
 public abstract class Drawable extends Component {
+    private final Vector2 interpolationOffset = new Vector2();
+    private final Vector2 interpolatedPosition = new Vector2();
     private RenderingMode renderingMode = RenderingMode.WORLD;
     private Vector2Base anchor = new Vector2();
+    private int queuedGeneration = -1;
+    private int renderVersion;
+    private boolean interpolated;
+    private DirtyTracker.Record renderRecord;
+    private float extentWidth = Float.NaN;
+    private float extentHeight;
+    private float extentPadding;
+    private float extentRotation;
+    private float extentX;
+    private float extentY;
+    private float screenMinX;
+    private float screenMinY;
+    private float screenMaxX;
+    private float screenMaxY;
 
     public abstract boolean isOutsideScreen();
 
@@ -16,6 +33,7 @@ public abstract class Drawable extends Component {
 
     @Override
     protected void update() {
+        updateInterpolatedPosition();
         Game.getRenderer().draw(this);
     }
 
@@ -25,6 +43,11 @@ public abstract class Drawable extends Component {
 
     public void setRenderingMode(RenderingMode renderingMode) {
         this.renderingMode = Objects.requireNonNullElse(renderingMode, RenderingMode.WORLD);
+        invalidate();
+    }
+
+    public Interpolation getInterpolation() {
+        return null;
     }
 
     public Vector2Base getAnchor() {
@@ -33,67 +56,210 @@ public abstract class Drawable extends Component {
 
     public void setAnchor(Vector2Base anchor) {
         this.anchor = Objects.requireNonNullElse(anchor, new Vector2());
+        invalidate();
     }
 
-    protected boolean isOutsideScreen(Vector2Base position, Vector2Base size, Stroke strokeObject, float rotation) {
-        if (rotation == 0) {
-            return isOutsideScreen(position, size, strokeObject);
+    public void invalidate() {
+        renderVersion++;
+        if (renderRecord != null) {
+            renderRecord.invalidate();
+        }
+    }
+
+    protected Object getRenderState() {
+        return getClass();
+    }
+
+    protected boolean updateScreenBounds() {
+        return false;
+    }
+
+    protected void setScreenBounds(Vector2Base position, Vector2Base size, float padding, float rotation) {
+        var width = size.getX();
+        var height = size.getY();
+        updateExtents(width, height, padding, rotation);
+        var centerX = getScreenX(position.getX()) + width / 2;
+        var centerY = getScreenY(position.getY()) + height / 2;
+        setScreenBounds(centerX - extentX, centerY - extentY, centerX + extentX, centerY + extentY);
+    }
+
+    protected void setScreenBounds(Vector2Base[] points, float padding) {
+        if (points.length == 0) {
+            setScreenBounds(0, 0, 0, 0);
+            return;
+        }
+        var minX = Float.POSITIVE_INFINITY;
+        var minY = Float.POSITIVE_INFINITY;
+        var maxX = Float.NEGATIVE_INFINITY;
+        var maxY = Float.NEGATIVE_INFINITY;
+        for (var point : points) {
+            var x = getScreenX(point.getX());
+            var y = getScreenY(point.getY());
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        setScreenBounds(minX - padding, minY - padding, maxX + padding, maxY + padding);
+    }
+
+    protected void setScreenBounds(float minX, float minY, float maxX, float maxY) {
+        screenMinX = minX;
+        screenMinY = minY;
+        screenMaxX = maxX;
+        screenMaxY = maxY;
+    }
+
+    protected boolean isOutsideScreen(Vector2Base position, Vector2Base size, float padding, float rotation) {
+        var width = size.getX();
+        var height = size.getY();
+        var centerX = getScreenX(position.getX()) + width / 2;
+        var centerY = getScreenY(position.getY()) + height / 2;
+        if (width == extentWidth && height == extentHeight && padding == extentPadding && rotation == extentRotation) {
+            return isOutsideScreen(centerX - extentX, centerY - extentY, centerX + extentX, centerY + extentY);
+        }
+        var radians = Math.toRadians(rotation);
+        var cos = Math.abs(Math.cos(radians));
+        var sin = Math.abs(Math.sin(radians));
+        var extentX = getExtent(width, height, cos, sin, padding);
+        var extentY = getExtent(height, width, cos, sin, padding);
+        return isOutsideScreen(centerX - extentX, centerY - extentY, centerX + extentX, centerY + extentY);
+    }
+
+    protected boolean isOutsideScreen(Vector2Base[] points, float padding) {
+        if (points.length == 0) {
+            return true;
+        }
+        var minX = Float.POSITIVE_INFINITY;
+        var minY = Float.POSITIVE_INFINITY;
+        var maxX = Float.NEGATIVE_INFINITY;
+        var maxY = Float.NEGATIVE_INFINITY;
+        for (var point : points) {
+            var x = getScreenX(point.getX());
+            var y = getScreenY(point.getY());
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
         }
-        var points = getRotatedPoints(position, size, (float) Math.toRadians(rotation));
-        return isOutsideScreen(points, strokeObject);
+        return isOutsideScreen(minX - padding, minY - padding, maxX + padding, maxY + padding);
     }
 
+    protected boolean isOutsideScreen(float minX, float minY, float maxX, float maxY) {
+        return maxX <= 0 || maxY <= 0 || minX >= Game.getWidth() || minY >= Game.getHeight();
+    }
+
+    @Deprecated
+    protected boolean isOutsideScreen(Vector2Base position, Vector2Base size, Stroke strokeObject, float rotation) {
+        return isOutsideScreen(position, size, getPadding(strokeObject), rotation);
+    }
+
+    @Deprecated
     protected boolean isOutsideScreen(Vector2Base[] polygon, Stroke strokeObject) {
-        var awtPolygon = new Polygon(getXPoints(polygon), getYPoints(polygon), polygon.length);
-        var shape = ((strokeObject == null ? awtPolygon : strokeObject.createStrokedShape(awtPolygon)));
-        return !shape.intersects(0, 0, Game.getWidth(), Game.getHeight());
+        return isOutsideScreen(polygon, getPadding(strokeObject));
+    }
+
+    protected float getScreenX(float x) {
+        return renderingMode.getModifierX(anchor.getX() + interpolationOffset.getX() + x);
+    }
+
+    protected float getScreenY(float y) {
+        return renderingMode.getModifierY(anchor.getY() + interpolationOffset.getY() + y);
     }
 
     protected int[] getXPoints(Vector2Base[] points) {
-        var result = new int[points.length];
+        return getXPoints(points, new int[points.length]);
+    }
+
+    protected int[] getXPoints(Vector2Base[] points, int[] result) {
         for (var i = 0; i < result.length; i++) {
-            result[i] = Math.round(renderingMode.getModifierX(anchor.getX() + points[i].getX()));
+            result[i] = Math.round(getScreenX(points[i].getX()));
         }
         return result;
     }
 
     protected int[] getYPoints(Vector2Base[] points) {
-        var result = new int[points.length];
+        return getYPoints(points, new int[points.length]);
+    }
+
+    protected int[] getYPoints(Vector2Base[] points, int[] result) {
         for (var i = 0; i < result.length; i++) {
-            result[i] = Math.round(renderingMode.getModifierY(anchor.getY() + points[i].getY()));
+            result[i] = Math.round(getScreenY(points[i].getY()));
         }
         return result;
     }
 
-    private boolean isOutsideScreen(Vector2Base position, Vector2Base size, Stroke strokeObject) {
-        var x = renderingMode.getModifierX(anchor.getX() + position.getX());
-        var y = renderingMode.getModifierY(anchor.getY() + position.getY());
-        var rectangle = new Rectangle(Math.round(x), Math.round(y), Math.round(size.getX()), Math.round(size.getY()));
-        var shape = ((strokeObject == null ? rectangle : strokeObject.createStrokedShape(rectangle)));
-        return !shape.intersects(0, 0, Game.getWidth(), Game.getHeight());
+    float getScreenMinX() {
+        return screenMinX;
     }
 
-    private Vector2Base[] getRotatedPoints(Vector2Base position, Vector2Base size, float rotation) {
-        var x = position.getX();
-        var y = position.getY();
-        var width = size.getX();
-        var height = size.getY();
-        var centerX = x + width / 2;
-        var centerY = y + height / 2;
-        var topLeft = rotatePoint(x, y, centerX, centerY, rotation);
-        var topRight = rotatePoint(x + width, y, centerX, centerY, rotation);
-        var bottomLeft = rotatePoint(x, y + height, centerX, centerY, rotation);
-        var bottomRight = rotatePoint(x + width, y + height, centerX, centerY, rotation);
-        return new Vector2Base[]{topLeft, bottomLeft, bottomRight, topRight};
-    }
-
-    private Vector2Base rotatePoint(float x, float y, float centerX, float centerY, float rotation) {
-        var translatedX = x - centerX;
-        var translatedY = y - centerY;
-        var rotatedX = translatedX * Math.cos(rotation) - translatedY * Math.sin(rotation);
-        var rotatedY = translatedX * Math.sin(rotation) + translatedY * Math.cos(rotation);
-        var finalX = rotatedX + centerX;
-        var finalY = rotatedY + centerY;
-        return new Vector2((float) finalX, (float) finalY);
+    float getScreenMinY() {
+        return screenMinY;
+    }
+
+    float getScreenMaxX() {
+        return screenMaxX;
+    }
+
+    float getScreenMaxY() {
+        return screenMaxY;
+    }
+
+    int getQueuedGeneration() {
+        return queuedGeneration;
+    }
+
+    void setQueuedGeneration(int queuedGeneration) {
+        this.queuedGeneration = queuedGeneration;
+    }
+
+    int getRenderVersion() {
+        return renderVersion;
+    }
+
+    void resolveInterpolationOffset() {
+        if (!interpolated) {
+            interpolationOffset.set(0);
+            return;
+        }
+        interpolationOffset.set(interpolatedPosition.getX() - super.position.getX(), interpolatedPosition.getY() - super.position.getY());
+    }
+
+    DirtyTracker.Record getRenderRecord() {
+        if (renderRecord == null) {
+            renderRecord = new DirtyTracker.Record();
+        }
+        return renderRecord;
+    }
+
+    private void updateInterpolatedPosition() {
+        var body = super.getComponent(RigidBody.class);
+        interpolated = body != null && body.isInterpolated();
+        if (interpolated) {
+            interpolatedPosition.set(body.getInterpolatedPosition());
+        }
+    }
+
+    private void updateExtents(float width, float height, float padding, float rotation) {
+        if (width == extentWidth && height == extentHeight && padding == extentPadding && rotation == extentRotation) {
+            return;
+        }
+        var radians = Math.toRadians(rotation);
+        var cos = Math.abs(Math.cos(radians));
+        var sin = Math.abs(Math.sin(radians));
+        extentX = getExtent(width, height, cos, sin, padding);
+        extentY = getExtent(height, width, cos, sin, padding);
+        extentWidth = width;
+        extentHeight = height;
+        extentPadding = padding;
+        extentRotation = rotation;
+    }
+
+    private static float getExtent(float width, float height, double cos, double sin, float padding) {
+        return (float) ((width * cos + height * sin) / 2) + padding;
+    }
+
+    private static float getPadding(Stroke strokeObject) {
+        return (strokeObject instanceof BasicStroke basicStroke ? basicStroke.getLineWidth() : 0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package sparkle.core;
+
+import java.util.*;
+
+public final class EventBus {
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+    private static final List<EventBus> queuedBuses = new ArrayList<>();
+    private final Map<Class<?>, EventListener<?>[]> listeners;
+    private final Map<Class<?>, EventListener<?>[]> dispatchers;
+    private List<Object> queuedEvents;
+
+    public EventBus() {
+        listeners = new HashMap<>();
+        dispatchers = new HashMap<>();
+        queuedEvents = new ArrayList<>();
+    }
+
+    public <E> void subscribe(Class<E> eventClass, EventListener<? super E> listener) {
+        Objects.requireNonNull(eventClass);
+        Objects.requireNonNull(listener);
+        if (ParallelUpdate.defer(() -> subscribe(eventClass, listener))) {
+            return;
+        }
+        var current = listeners.getOrDefault(eventClass, NO_LISTENERS);
+        var updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners.put(eventClass, updated);
+        dispatchers.clear();
+    }
+
+    public <E> void unsubscribe(Class<E> eventClass, EventListener<? super E> listener) {
+        if (ParallelUpdate.defer(() -> unsubscribe(eventClass, listener))) {
+            return;
+        }
+        var current = listeners.get(eventClass);
+        if (current == null) {
+            return;
+        }
+        for (var i = 0; i < current.length; i++) {
+            if (current[i] != listener) {
+                continue;
+            }
+            if (current.length == 1) {
+                listeners.remove(eventClass);
+            } else {
+                var updated = new EventListener<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners.put(eventClass, updated);
+            }
+            dispatchers.clear();
+            return;
+        }
+    }
+
+    public boolean hasListeners(Class<?> eventClass) {
+        return getDispatcher(eventClass).length > 0;
+    }
+
+    public void publish(Object event) {
+        Objects.requireNonNull(event);
+        if (ParallelUpdate.defer(() -> publish(event))) {
+            return;
+        }
+        dispatch(event);
+    }
+
+    public void queue(Object event) {
+        Objects.requireNonNull(event);
+        if (ParallelUpdate.defer(() -> queue(event))) {
+            return;
+        }
+        if (queuedEvents.isEmpty()) {
+            queuedBuses.add(this);
+        }
+        queuedEvents.add(event);
+    }
+
+    public void clear() {
+        listeners.clear();
+        dispatchers.clear();
+        queuedEvents.clear();
+    }
+
+    static void flushQueued() {
+        while (!queuedBuses.isEmpty()) {
+            var buses = new ArrayList<>(queuedBuses);
+            queuedBuses.clear();
+            for (var bus : buses) {
+                bus.flush();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(Object event) {
+        for (var listener : getDispatcher(event.getClass())) {
+            ((EventListener<Object>) listener).onEvent(event);
+        }
+    }
+
+    private void flush() {
+        var events = queuedEvents;
+        queuedEvents = new ArrayList<>();
+        for (var event : events) {
+            dispatch(event);
+        }
+    }
+
+    private EventListener<?>[] getDispatcher(Class<?> eventClass) {
+        var dispatcher = dispatchers.get(eventClass);
+        if (dispatcher == null) {
+            dispatcher = resolveDispatcher(eventClass);
+            if (!ParallelUpdate.isRunning()) {
+                dispatchers.put(eventClass, dispatcher);
+            }
+        }
+        return dispatcher;
+    }
+
+    private EventListener<?>[] resolveDispatcher(Class<?> eventClass) {
+        if (listeners.isEmpty()) {
+            return NO_LISTENERS;
+        }
+        var resolved = new ArrayList<EventListener<?>>();
+        var types = new LinkedHashSet<Class<?>>();
+        collectTypes(eventClass, types);
+        for (var type : types) {
+            resolved.addAll(Arrays.asList(listeners.getOrDefault(type, NO_LISTENERS)));
+        }
+        return resolved.toArray(NO_LISTENERS);
+    }
+
+    private void collectTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+        collectTypes(type.getSuperclass(), types);
+        for (var interfaceType : type.getInterfaces()) {
+            collectTypes(interfaceType, types);
+        }
+    }
+}
\ No newline at end of file
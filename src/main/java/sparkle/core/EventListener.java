@@ -0,0 +1,6 @@
+package sparkle.core;
+
+@FunctionalInterface
+public interface EventListener<E> {
+    void onEvent(E event);
+}
\ No newline at end of file
@@ -14,7 +14,7 @@ public final class FPSTarget {
     public static final FPSTarget FPS_144 = new FPSTarget("FPS_144", 144);
     public static final FPSTarget FPS_165 = new FPSTarget("FPS_165", 165);
     public static final FPSTarget FPS_240 = new FPSTarget("FPS_240", 240);
-    public static final FPSTarget DISPLAY = new FPSTarget("DISPLAY", GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate());
+    public static final FPSTarget DISPLAY = new FPSTarget("DISPLAY", 0);
     public static final FPSTarget NO_LIMIT = new FPSTarget("NO_LIMIT", Integer.MAX_VALUE);
     private static final List<FPSTarget> fpsTargets = new ArrayList<>();
 
@@ -56,6 +56,18 @@ public final class FPSTarget {
         return fpsTargets.toArray(new FPSTarget[0]);
     }
 
+    static void updateDisplayRefreshRate() {
+        var refreshRate = getDisplayRefreshRate();
+        DISPLAY.target = (refreshRate <= 0 ? 60 : refreshRate);
+    }
+
+    private static int getDisplayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return 0;
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+    }
+
     @Override
     public String toString() {
         return name;
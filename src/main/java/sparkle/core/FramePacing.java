@@ -0,0 +1,6 @@
+package sparkle.core;
+
+public enum FramePacing {
+    SLEEP,
+    PARK
+}
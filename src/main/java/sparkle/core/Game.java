@@ -6,14 +6,34 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 public final class Game {
+    private static final long REPLAY_POLL_INTERVAL = 1_000_000;
+    private static final ExecutorService sceneLoader = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "Scene Loader");
+        thread.setDaemon(true);
+        return thread;
+    });
     private static Game instance = null;
+    private final AtomicInteger sceneRequestCount = new AtomicInteger();
+    private final AtomicReference<PendingScene> loadedScene = new AtomicReference<>();
+    private final AtomicReference<PendingScene> requestedScene = new AtomicReference<>();
     private GameConfig gameConfig;
     private RenderingEngine renderingEngine;
     private FPSTarget fpsTarget;
     private Time time;
+    private Profiler profiler;
     private KeyInput keyInput;
     private MouseInput mouseInput;
     private JFrame frame;
@@ -22,8 +42,10 @@ public final class Game {
     private Cursor cursor;
     private DisplayMode displayMode;
     private Renderer renderer;
+    private InputRecorder inputRecorder;
+    private InputPlayer inputPlayer;
+    private Random seeds;
     private boolean running;
-    private boolean cleanup;
 
     private Game() {}
 
@@ -31,13 +53,18 @@ public final class Game {
         if (instance != null) {
             throw new IllegalStateException("Game has already been initialized");
         }
+        var config = copyConfig(gameConfig);
+        if (config.getRunMode().isHeadless()) {
+            System.setProperty("java.awt.headless", "true");
+        } else if (config.isHardwareAccelerated()) {
+            System.setProperty("sun.java2d.opengl", "true");
+        }
+        FPSTarget.updateDisplayRefreshRate();
         var instance = getInstance();
+        instance.gameConfig = config;
+        instance.initializeInputLog();
         setScene(scene);
         instance.running = true;
-        instance.gameConfig = copyConfig(gameConfig);
-        if (instance.gameConfig.isHardwareAccelerated()) {
-            System.setProperty("sun.java2d.opengl", "true");
-        }
         instance.fpsTarget = instance.gameConfig.getFPSTarget();
         instance.initialize();
         instance.loop();
@@ -62,12 +89,23 @@ public final class Game {
         throwIfUninitialized();
         var instance = getInstance();
         instance.scene = Objects.requireNonNull(scene);
+        instance.scene.setSeed(instance.seeds.nextLong());
+        instance.sceneRequestCount.incrementAndGet();
         if (instance.running) {
             instance.scene.start();
-            instance.cleanup = true;
         }
     }
 
+    public static CompletableFuture<Scene> setSceneAsync(Scene scene) {
+        throwIfUninitialized();
+        var instance = getInstance();
+        Objects.requireNonNull(scene).setSeed(instance.seeds.nextLong());
+        var pendingScene = new PendingScene(scene, new CompletableFuture<>(), instance.sceneRequestCount.incrementAndGet());
+        instance.requestedScene.set(pendingScene);
+        sceneLoader.execute(() -> instance.loadScene(pendingScene));
+        return pendingScene.future();
+    }
+
     public static Cursor getCursor() {
         throwIfUninitialized();
         return getInstance().cursor;
@@ -78,7 +116,9 @@ public final class Game {
         var instance = getInstance();
         var newCursor = Objects.requireNonNullElse(cursor, Cursor.DEFAULT);
         instance.cursor = newCursor;
-        instance.frame.setCursor(newCursor.getCursor());
+        if (instance.frame != null) {
+            instance.frame.setCursor(newCursor.getCursor());
+        }
     }
 
     public static DisplayMode getDisplayMode() {
@@ -90,10 +130,14 @@ public final class Game {
         throwIfUninitialized();
         var instance = getInstance();
         var newDisplayMode = Objects.requireNonNullElse(displayMode, DisplayMode.WINDOW);
-        newDisplayMode = (newDisplayMode == DisplayMode.FULLSCREEN && !DisplayMode.isFullscreenSupported() ? DisplayMode.MAXIMIZED : newDisplayMode);
+        newDisplayMode = (!isHeadless() && newDisplayMode == DisplayMode.FULLSCREEN && !DisplayMode.isFullscreenSupported() ? DisplayMode.MAXIMIZED : newDisplayMode);
         if (instance.displayMode == newDisplayMode) {
             return;
         }
+        if (isHeadless()) {
+            instance.displayMode = newDisplayMode;
+            return;
+        }
         instance.displayMode = newDisplayMode;
         try {
             instance.displayMode.enable();
@@ -130,6 +174,70 @@ public final class Game {
         getInstance().fpsTarget = Objects.requireNonNullElse(fpsTarget, FPSTarget.FPS_60);
     }
 
+    public static FramePacing getFramePacing() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.getFramePacing();
+    }
+
+    public static void setFramePacing(FramePacing framePacing) {
+        throwIfUninitialized();
+        getInstance().gameConfig.setFramePacing(framePacing);
+    }
+
+    public static RasterizationMode getRasterizationMode() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.getRasterizationMode();
+    }
+
+    public static void setRasterizationMode(RasterizationMode rasterizationMode) {
+        throwIfUninitialized();
+        getInstance().gameConfig.setRasterizationMode(rasterizationMode);
+    }
+
+    public static boolean isDirtyRendering() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.isDirtyRendering();
+    }
+
+    public static void setDirtyRendering(boolean dirtyRendering) {
+        throwIfUninitialized();
+        getInstance().gameConfig.setDirtyRendering(dirtyRendering);
+    }
+
+    public static int getSimulationRate() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.getSimulationRate();
+    }
+
+    public static void setSimulationRate(int simulationRate) {
+        throwIfUninitialized();
+        getInstance().gameConfig.setSimulationRate(simulationRate);
+    }
+
+    public static int getMaxSubsteps() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.getMaxSubsteps();
+    }
+
+    public static void setMaxSubsteps(int maxSubsteps) {
+        throwIfUninitialized();
+        getInstance().gameConfig.setMaxSubsteps(maxSubsteps);
+    }
+
+    public static RunMode getRunMode() {
+        throwIfUninitialized();
+        return getInstance().gameConfig.getRunMode();
+    }
+
+    public static boolean isHeadless() {
+        return getRunMode().isHeadless();
+    }
+
+    public static BufferedImage getOffscreenImage() {
+        throwIfUninitialized();
+        return getInstance().renderingEngine.getOffscreenImage();
+    }
+
     static JFrame getFrame() {
         throwIfUninitialized();
         return getInstance().frame;
@@ -149,6 +257,9 @@ public final class Game {
     static Vector2c getActualSize() {
         throwIfUninitialized();
         var instance = getInstance();
+        if (instance.frame == null) {
+            return getSize();
+        }
         var bounds = instance.frame.getBounds();
         return new Vector2c(bounds.width, bounds.height);
     }
@@ -181,10 +292,24 @@ public final class Game {
         result.setCursor(gameConfig.getCursor());
         result.setWidth(gameConfig.getWidth());
         result.setHeight(gameConfig.getHeight());
+        result.setRunMode(gameConfig.getRunMode());
+        result.setFramePacing(gameConfig.getFramePacing());
+        result.setRasterizationMode(gameConfig.getRasterizationMode());
+        result.setDirtyRendering(gameConfig.isDirtyRendering());
+        result.setProfilerMode(gameConfig.getProfilerMode());
+        result.setSimulationRate(gameConfig.getSimulationRate());
+        result.setMaxSubsteps(gameConfig.getMaxSubsteps());
+        result.setSeed(gameConfig.getSeed());
+        result.setInputRecording(gameConfig.getInputRecording());
+        result.setInputReplay(gameConfig.getInputReplay());
         return result;
     }
 
     private void initialize() {
+        if (isHeadless()) {
+            initializeHeadless();
+            return;
+        }
         initializeTaskbar();
         initializeInput();
         initializeFrame();
@@ -192,6 +317,29 @@ public final class Game {
         initializeRenderingEngine();
         initializeCursor();
         initializeTime();
+        initializeProfiler();
+    }
+
+    private void initializeHeadless() {
+        initializeInput();
+        setDisplayMode(gameConfig.getDisplayMode());
+        initializeRenderingEngine();
+        initializeCursor();
+        initializeTime();
+        initializeProfiler();
+    }
+
+    private void initializeInputLog() {
+        if (gameConfig.getInputReplay() != null) {
+            inputPlayer = new InputPlayer(gameConfig.getInputReplay());
+            gameConfig.setSeed(inputPlayer.getSeed());
+            gameConfig.setSimulationRate(inputPlayer.getSimulationRate());
+            gameConfig.setMaxSubsteps(inputPlayer.getMaxSubsteps());
+        }
+        seeds = new Random(gameConfig.getSeed());
+        if (gameConfig.getInputRecording() != null) {
+            inputRecorder = new InputRecorder(gameConfig.getInputRecording(), gameConfig.getSeed(), gameConfig.getSimulationRate(), gameConfig.getMaxSubsteps());
+        }
     }
 
     private void initializeTaskbar() {
@@ -259,29 +407,143 @@ public final class Game {
         time = Time.getInstance();
     }
 
+    private void initializeProfiler() {
+        profiler = Profiler.getInstance();
+        Profiler.setMode(gameConfig.getProfilerMode());
+    }
+
     private void loop() {
         scene.start();
-        while (running) {
-            update();
+        try {
+            while (running) {
+                update();
+            }
+        } finally {
+            closeInputLog();
         }
         dispose();
     }
 
     private void update() {
+        var section = Profiler.begin();
         time.update();
+        section = Profiler.end(ProfilerPhase.WAIT, section);
+        if (!updateInput()) {
+            running = false;
+            return;
+        }
+        section = Profiler.end(ProfilerPhase.INPUT, section);
+        var sceneSwapped = swapLoadedScene();
+        if (inputRecorder != null) {
+            inputRecorder.writeFrame(sceneSwapped);
+        }
+        scene.getScheduler().update();
+        if (renderingEngine.restoreContents()) {
+            renderer.invalidate();
+        }
+        renderer.setGraphics(renderingEngine.buildGraphics());
+        scene.update();
+        EventBus.flushQueued();
+        renderer.flush();
+        section = Profiler.end(ProfilerPhase.UPDATE, section);
+        profiler.drawOverlay(renderer);
+        section = Profiler.begin();
+        renderingEngine.renderScreen(renderer.isFrameChanged());
+        Profiler.end(ProfilerPhase.PRESENT, section);
+        profiler.endFrame();
+    }
+
+    private boolean updateInput() {
+        if (inputPlayer != null) {
+            return inputPlayer.readFrame();
+        }
         keyInput.update();
         mouseInput.update();
         Gamepad.updateAll();
-        if (cleanup) {
-            System.gc();
-            cleanup = false;
+        return true;
+    }
+
+    private void loadScene(PendingScene pendingScene) {
+        try {
+            pendingScene.scene().prepare();
+        } catch (RuntimeException e) {
+            pendingScene.future().completeExceptionally(e);
+            return;
+        }
+        if (pendingScene.request() != sceneRequestCount.get()) {
+            pendingScene.future().cancel(false);
+            return;
+        }
+        if (pendingScene.future().isDone()) {
+            return;
+        }
+        var previousScene = loadedScene.getAndSet(pendingScene);
+        if (previousScene != null) {
+            previousScene.future().cancel(false);
+        }
+    }
+
+    private boolean swapLoadedScene() {
+        if (inputPlayer != null && !inputPlayer.isSceneSwapped()) {
+            return false;
+        }
+        var pendingScene = (inputPlayer == null ? loadedScene.getAndSet(null) : awaitLoadedScene());
+        if (pendingScene == null) {
+            return false;
+        }
+        if (pendingScene.request() != sceneRequestCount.get()) {
+            pendingScene.future().cancel(false);
+            return false;
+        }
+        scene = pendingScene.scene();
+        try {
+            scene.start();
+        } catch (RuntimeException e) {
+            pendingScene.future().completeExceptionally(e);
+            throw e;
+        }
+        pendingScene.future().complete(scene);
+        return true;
+    }
+
+    private PendingScene awaitLoadedScene() {
+        var pendingScene = loadedScene.getAndSet(null);
+        while (pendingScene == null || pendingScene.request() != sceneRequestCount.get()) {
+            if (pendingScene != null) {
+                pendingScene.future().cancel(false);
+            }
+            throwIfLoadFailed();
+            LockSupport.parkNanos(REPLAY_POLL_INTERVAL);
+            pendingScene = loadedScene.getAndSet(null);
+        }
+        return pendingScene;
+    }
+
+    private void throwIfLoadFailed() {
+        var requestedScene = this.requestedScene.get();
+        if (requestedScene == null || requestedScene.request() != sceneRequestCount.get() || !requestedScene.future().isCompletedExceptionally() || loadedScene.get() != null) {
+            return;
+        }
+        try {
+            requestedScene.future().join();
+        } catch (CancellationException | CompletionException e) {
+            throw new RuntimeException("Could not load the replayed scene", e);
+        }
+    }
+
+    private void closeInputLog() {
+        if (inputRecorder != null) {
+            inputRecorder.close();
+        }
+        if (inputPlayer != null) {
+            inputPlayer.close();
         }
-        renderer.setGraphics(renderingEngine.buildGraphics());
-        scene.update();
-        renderingEngine.renderScreen();
     }
 
     private void dispose() {
+        if (frame == null) {
+            return;
+        }
         try {
             frame.setVisible(false);
             frame.dispose();
@@ -289,4 +551,6 @@ public final class Game {
             System.exit(1);
         }
     }
+
+    private record PendingScene(Scene scene, CompletableFuture<Scene> future, int request) {}
 }
\ No newline at end of file
@@ -2,11 +2,14 @@ package sparkle.core;
 
 import sparkle.assets.Texture;
 
+import java.nio.file.Path;
 import java.util.Objects;
 
 public final class GameConfig {
     private static final int DEFAULT_WIDTH = 960;
     private static final int DEFAULT_HEIGHT = 540;
+    private static final int DEFAULT_SIMULATION_RATE = 60;
+    private static final int DEFAULT_MAX_SUBSTEPS = 5;
     private Texture icon;
     private String title;
     private FPSTarget fpsTarget;
@@ -14,7 +17,17 @@ public final class GameConfig {
     private Cursor cursor;
     private int width;
     private int height;
+    private RunMode runMode = RunMode.WINDOWED;
+    private FramePacing framePacing = FramePacing.PARK;
+    private RasterizationMode rasterizationMode = RasterizationMode.SERIAL;
+    private ProfilerMode profilerMode = ProfilerMode.DISABLED;
+    private int simulationRate = DEFAULT_SIMULATION_RATE;
+    private int maxSubsteps = DEFAULT_MAX_SUBSTEPS;
+    private long seed = System.nanoTime();
+    private Path inputRecording;
+    private Path inputReplay;
     private boolean hardwareAccelerated;
+    private boolean dirtyRendering;
 
     public GameConfig() {
         this(null, null, null, null, Cursor.DEFAULT, DEFAULT_WIDTH, DEFAULT_HEIGHT, true);
@@ -93,6 +106,92 @@ public final class GameConfig {
         this.height = height;
     }
 
+    public RunMode getRunMode() {
+        return runMode;
+    }
+
+    public void setRunMode(RunMode runMode) {
+        this.runMode = Objects.requireNonNullElse(runMode, RunMode.WINDOWED);
+    }
+
+    public FramePacing getFramePacing() {
+        return framePacing;
+    }
+
+    public void setFramePacing(FramePacing framePacing) {
+        this.framePacing = Objects.requireNonNullElse(framePacing, FramePacing.PARK);
+    }
+
+    public RasterizationMode getRasterizationMode() {
+        return rasterizationMode;
+    }
+
+    public void setRasterizationMode(RasterizationMode rasterizationMode) {
+        this.rasterizationMode = Objects.requireNonNullElse(rasterizationMode, RasterizationMode.SERIAL);
+    }
+
+    public boolean isDirtyRendering() {
+        return dirtyRendering;
+    }
+
+    public void setDirtyRendering(boolean dirtyRendering) {
+        this.dirtyRendering = dirtyRendering;
+    }
+
+    public ProfilerMode getProfilerMode() {
+        return profilerMode;
+    }
+
+    public void setProfilerMode(ProfilerMode profilerMode) {
+        this.profilerMode = Objects.requireNonNullElse(profilerMode, ProfilerMode.DISABLED);
+    }
+
+    public int getSimulationRate() {
+        return simulationRate;
+    }
+
+    public void setSimulationRate(int simulationRate) {
+        if (simulationRate <= 0) {
+            throw new IllegalArgumentException("Simulation rate must be bigger than zero");
+        }
+        this.simulationRate = simulationRate;
+    }
+
+    public int getMaxSubsteps() {
+        return maxSubsteps;
+    }
+
+    public void setMaxSubsteps(int maxSubsteps) {
+        if (maxSubsteps <= 0) {
+            throw new IllegalArgumentException("Max substeps must be bigger than zero");
+        }
+        this.maxSubsteps = maxSubsteps;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public Path getInputRecording() {
+        return inputRecording;
+    }
+
+    public void setInputRecording(Path inputRecording) {
+        this.inputRecording = inputRecording;
+    }
+
+    public Path getInputReplay() {
+        return inputReplay;
+    }
+
+    public void setInputReplay(Path inputReplay) {
+        this.inputReplay = inputReplay;
+    }
+
     public boolean isHardwareAccelerated() {
         return hardwareAccelerated;
     }
@@ -14,8 +14,23 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     private final List<Component> components;
     private final List<Component> componentsToAdd;
     private final List<Component> componentsToRemove;
+    private final Map<Class<?>, List<?>> componentCache;
+    private final BitSet componentMask;
+    private final Map<ComponentHook, List<Component>> hookComponents;
+    private List<Component> parallelComponents;
     private final ObservableVector2 position;
     private final ObservableVector2 size;
+    private final EventBus events;
+    private Scene scene;
+    private GameObjectPool pool;
+    private SpatialGrid.Entry spatialEntry;
+    private UpdatePolicy updatePolicy;
+    private float accumulatedDelta;
+    private float accumulatedFixedDelta;
+    private int skippedUpdates;
+    private int skippedFixedUpdates;
+    private int sceneOrder;
+    private boolean sleeping;
     private int zIndex;
     private boolean cleaned;
 
@@ -37,33 +52,53 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
         this.position = new ObservableVector2(position, this::onPositionChanged);
         this.size = new ObservableVector2(size, this::onSizeChanged);
         this.zIndex = zIndex;
-        tags = new HashSet<>();
+        tags = new TagSet(this);
         components = new ArrayList<>();
         componentsToAdd = new ArrayList<>();
         componentsToRemove = new ArrayList<>();
+        componentCache = new HashMap<>();
+        componentMask = new BitSet();
+        hookComponents = new EnumMap<>(ComponentHook.class);
+        for (var hook : ComponentHook.values()) {
+            hookComponents.put(hook, List.of());
+        }
+        parallelComponents = List.of();
+        events = new EventBus();
+        updatePolicy = UpdatePolicy.ALWAYS;
         cleaned = true;
     }
 
     public <T> T getComponent(Class<T> componentClass) {
-        for (var component : components) {
-            if (componentClass.isAssignableFrom(component.getClass())) {
-                return componentClass.cast(component);
-            }
-        }
-        return null;
+        var components = getComponents(componentClass);
+        return (components.isEmpty() ? null : components.getFirst());
     }
 
+    @SuppressWarnings("unchecked")
     public <T> List<T> getComponents(Class<T> componentClass) {
+        if (!componentMask.get(ComponentType.of(componentClass).getId())) {
+            return List.of();
+        }
+        var cachedComponents = componentCache.get(componentClass);
+        if (cachedComponents != null) {
+            return (List<T>) cachedComponents;
+        }
         var result = new ArrayList<T>();
         for (var component : components) {
-            if (componentClass.isAssignableFrom(component.getClass())) {
+            if (componentClass.isInstance(component)) {
                 result.add(componentClass.cast(component));
             }
         }
-        return result;
+        var components = Collections.unmodifiableList(result);
+        if (!ParallelUpdate.isRunning()) {
+            componentCache.put(componentClass, components);
+        }
+        return components;
     }
 
     public void addComponent(Component component) {
+        if (ParallelUpdate.defer(() -> addComponent(component))) {
+            return;
+        }
         if (components.contains(component)) {
             return;
         }
@@ -91,6 +126,9 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     }
 
     public void removeComponent(Component component) {
+        if (ParallelUpdate.defer(() -> removeComponent(component))) {
+            return;
+        }
         componentsToRemove.add(component);
         cleaned = false;
         if (Game.getScene().isInitialized()) {
@@ -100,6 +138,9 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     }
 
     public <T> void removeComponents(Class<T> componentClass) {
+        if (ParallelUpdate.defer(() -> removeComponents(componentClass))) {
+            return;
+        }
         for (var component : components) {
             if (componentClass.isAssignableFrom(component.getClass())) {
                 componentsToRemove.add(component);
@@ -137,7 +178,29 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     }
 
     public void setZIndex(int zIndex) {
+        if (this.zIndex == zIndex) {
+            return;
+        }
         this.zIndex = zIndex;
+        if (scene != null) {
+            scene.onZIndexChanged();
+        }
+    }
+
+    public UpdatePolicy getUpdatePolicy() {
+        return updatePolicy;
+    }
+
+    public void setUpdatePolicy(UpdatePolicy updatePolicy) {
+        this.updatePolicy = Objects.requireNonNullElse(updatePolicy, UpdatePolicy.ALWAYS);
+        accumulatedDelta = 0;
+        accumulatedFixedDelta = 0;
+        skippedUpdates = 0;
+        skippedFixedUpdates = 0;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
     }
 
     public Bounds getBounds() {
@@ -151,12 +214,72 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
 
     @Override
     protected void fixedUpdate() {
-        for (var component : getConcurrentSafeComponents()) {
-            component.fixedUpdate();
+        if (sleeping) {
+            clean();
+            return;
+        }
+        var interval = updatePolicy.getInterval();
+        if (interval == 1) {
+            fixedUpdateComponents();
+            clean();
+            return;
         }
+        accumulatedFixedDelta += Time.getFixedDelta();
+        if (++skippedFixedUpdates < interval) {
+            clean();
+            return;
+        }
+        Time.setLocalFixedDelta(accumulatedFixedDelta);
+        try {
+            fixedUpdateComponents();
+        } finally {
+            Time.setLocalFixedDelta(-1);
+        }
+        accumulatedFixedDelta = 0;
+        skippedFixedUpdates = 0;
         clean();
     }
 
+    public EventBus getEvents() {
+        return events;
+    }
+
+    public Scene getScene() {
+        return scene;
+    }
+
+    void setScene(Scene scene) {
+        this.scene = scene;
+    }
+
+    int getSceneOrder() {
+        return sceneOrder;
+    }
+
+    void setSceneOrder(int sceneOrder) {
+        this.sceneOrder = sceneOrder;
+    }
+
+    public GameObjectPool getPool() {
+        return pool;
+    }
+
+    public void setPool(GameObjectPool pool) {
+        this.pool = pool;
+    }
+
+    SpatialGrid.Entry getSpatialEntry() {
+        return spatialEntry;
+    }
+
+    void setSpatialEntry(SpatialGrid.Entry spatialEntry) {
+        this.spatialEntry = spatialEntry;
+    }
+
+    List<Component> getParallelComponents() {
+        return parallelComponents;
+    }
+
     void start() {
         for (var component : getConcurrentSafeComponents()) {
             component.start();
@@ -165,27 +288,95 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     }
 
     void update() {
-        for (var component : getConcurrentSafeComponents()) {
-            component.update();
+        if (sleeping) {
+            clean();
+            return;
         }
+        var interval = updatePolicy.getInterval();
+        if (interval == 1) {
+            updateComponents(hookComponents.get(ComponentHook.UPDATE), false);
+            clean();
+            return;
+        }
+        accumulatedDelta += Time.getDelta();
+        if (++skippedUpdates < interval) {
+            updateComponents(hookComponents.get(ComponentHook.UPDATE), true);
+            clean();
+            return;
+        }
+        Time.setLocalDelta(accumulatedDelta);
+        try {
+            updateComponents(parallelComponents, false);
+            updateComponents(hookComponents.get(ComponentHook.UPDATE), false);
+        } finally {
+            Time.setLocalDelta(-1);
+        }
+        accumulatedDelta = 0;
+        skippedUpdates = 0;
         clean();
     }
 
+    void updateSleeping() {
+        if (!updatePolicy.isSleepingOffCamera() || scene == null || hasScreenDrawables()) {
+            sleeping = false;
+            return;
+        }
+        var camera = scene.getCamera();
+        var margin = updatePolicy.getSleepMargin();
+        var x = position.getX();
+        var y = position.getY();
+        sleeping = x + size.getX() < camera.getX() - margin || y + size.getY() < camera.getY() - margin || x > camera.getX() + Game.getWidth() + margin || y > camera.getY() + Game.getHeight() + margin;
+    }
+
+    boolean isParallelUpdateDue() {
+        return !sleeping && updatePolicy.getInterval() == 1;
+    }
+
     void destroy() {
         for (var component : getConcurrentSafeComponents()) {
             component.destroy();
+            component.unsubscribeAll();
         }
         clean();
     }
 
-    private void onPositionChanged(float oldX, float oldY, float newX, float newY) {
+    void recycle() {
         for (var component : getConcurrentSafeComponents()) {
-            component.onPositionChanged(oldX, oldY, newX, newY);
+            component.recycle();
+        }
+        clean();
+    }
+
+    private void onPositionChanged(float oldX, float oldY, float newX, float newY) {
+        if (scene != null) {
+            scene.onBoundsChanged(this);
         }
+        dispatchPositionChanged(oldX, oldY, newX, newY);
     }
 
     private void onSizeChanged(float oldX, float oldY, float newX, float newY) {
-        for (var component : getConcurrentSafeComponents()) {
+        if (scene != null) {
+            scene.onBoundsChanged(this);
+        }
+        dispatchSizeChanged(oldX, oldY, newX, newY);
+    }
+
+    private void dispatchPositionChanged(float oldX, float oldY, float newX, float newY) {
+        var components = hookComponents.get(ComponentHook.POSITION_CHANGED);
+        if (components.isEmpty() || ParallelUpdate.defer(() -> dispatchPositionChanged(oldX, oldY, newX, newY))) {
+            return;
+        }
+        for (var component : components) {
+            component.onPositionChanged(oldX, oldY, newX, newY);
+        }
+    }
+
+    private void dispatchSizeChanged(float oldX, float oldY, float newX, float newY) {
+        var components = hookComponents.get(ComponentHook.SIZE_CHANGED);
+        if (components.isEmpty() || ParallelUpdate.defer(() -> dispatchSizeChanged(oldX, oldY, newX, newY))) {
+            return;
+        }
+        for (var component : components) {
             component.onSizeChanged(oldX, oldY, newX, newY);
         }
     }
@@ -204,9 +395,17 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     private void addPendingComponents() {
         var componentsToAdd = new ArrayList<>(this.componentsToAdd);
         components.addAll(componentsToAdd);
+        for (var component : componentsToAdd) {
+            componentMask.or(ComponentType.of(component.getClass()).getMask());
+        }
+        componentCache.clear();
+        updateHookComponents();
         for (var component : componentsToAdd) {
             component.setGameObject(this);
-            if (Game.getScene().getGameObjects().contains(this)) {
+            if (scene != null) {
+                scene.onComponentAdded(this, component);
+            }
+            if (scene != null && scene == Game.getScene()) {
                 component.start();
             }
         }
@@ -216,13 +415,71 @@ public final class GameObject extends PhysicsCapabilities implements Comparable<
     private void removePendingComponents() {
         var componentsToRemove = new ArrayList<>(this.componentsToRemove);
         components.removeAll(componentsToRemove);
+        componentMask.clear();
+        for (var component : components) {
+            componentMask.or(ComponentType.of(component.getClass()).getMask());
+        }
+        componentCache.clear();
+        updateHookComponents();
         for (var component : componentsToRemove) {
+            if (scene != null) {
+                scene.onComponentRemoved(this, component);
+            }
             component.destroy();
+            component.unsubscribeAll();
             component.setGameObject(null);
         }
         this.componentsToRemove.removeAll(componentsToRemove);
     }
 
+    private void updateComponents(List<Component> components, boolean drawablesOnly) {
+        for (var component : components) {
+            if (drawablesOnly && !(component instanceof Drawable)) {
+                continue;
+            }
+            var section = Profiler.begin();
+            component.update();
+            Profiler.endComponentUpdate(component, section, false);
+        }
+    }
+
+    private boolean hasScreenDrawables() {
+        for (var component : components) {
+            if (component instanceof Drawable drawable && drawable.getRenderingMode() == RenderingMode.SCREEN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fixedUpdateComponents() {
+        for (var component : hookComponents.get(ComponentHook.FIXED_UPDATE)) {
+            var section = Profiler.begin();
+            component.fixedUpdate();
+            Profiler.endComponentUpdate(component, section, true);
+        }
+    }
+
+    private void updateHookComponents() {
+        for (var hook : ComponentHook.values()) {
+            var hookComponents = new ArrayList<Component>();
+            for (var component : components) {
+                var componentType = ComponentType.of(component.getClass());
+                if (componentType.hasHook(hook) && (hook != ComponentHook.UPDATE || !componentType.isParallelSafe())) {
+                    hookComponents.add(component);
+                }
+            }
+            this.hookComponents.put(hook, hookComponents);
+        }
+        var parallelComponents = new ArrayList<Component>();
+        for (var component : components) {
+            if (ComponentType.of(component.getClass()).isParallelSafe()) {
+                parallelComponents.add(component);
+            }
+        }
+        this.parallelComponents = parallelComponents;
+    }
+
     private List<Component> getConcurrentSafeComponents() {
         return (Game.getScene().isInitialized() ? this.components : new ArrayList<>(this.components));
     }
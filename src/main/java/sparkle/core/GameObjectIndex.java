@@ -0,0 +1,76 @@
+package sparkle.core;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+final class GameObjectIndex<K> {
+    private static final Comparator<GameObject> SCENE_ORDER = Comparator.comparingInt(GameObject::getSceneOrder);
+    private final Map<K, List<GameObject>> entries = new HashMap<>();
+    private final Set<K> staleKeys = new HashSet<>();
+
+    List<GameObject> get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return new ArrayList<>();
+        }
+        var gameObjects = new ArrayList<>(entry);
+        gameObjects.sort(SCENE_ORDER);
+        return gameObjects;
+    }
+
+    GameObject getFirst(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        GameObject first = null;
+        for (var gameObject : entry) {
+            if (first == null || gameObject.getSceneOrder() < first.getSceneOrder()) {
+                first = gameObject;
+            }
+        }
+        return first;
+    }
+
+    <T> List<T> getComponents(K key, Class<T> componentClass) {
+        var gameObjects = get(key);
+        var components = new ArrayList<T>(gameObjects.size());
+        for (var gameObject : gameObjects) {
+            components.add(gameObject.getComponent(componentClass));
+        }
+        return components;
+    }
+
+    void add(K key, GameObject gameObject) {
+        entries.computeIfAbsent(key, k -> new ArrayList<>()).add(gameObject);
+    }
+
+    void remove(K key, GameObject gameObject) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.remove(gameObject);
+        if (entry.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+
+    void markStale(K key) {
+        staleKeys.add(key);
+    }
+
+    void removeStale(Predicate<GameObject> predicate) {
+        for (var key : staleKeys) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            entry.removeIf(predicate);
+            if (entry.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+        staleKeys.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package sparkle.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class GameObjectPool {
+    public static final int DEFAULT_CAPACITY = 256;
+    private final Deque<GameObject> gameObjects = new ArrayDeque<>();
+    private int capacity;
+
+    public GameObjectPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameObjectPool(int capacity) {
+        setCapacity(capacity);
+    }
+
+    public GameObject poll() {
+        return gameObjects.pollLast();
+    }
+
+    public int size() {
+        return gameObjects.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be positive or zero");
+        }
+        this.capacity = capacity;
+        while (gameObjects.size() > capacity) {
+            gameObjects.pollFirst().setPool(null);
+        }
+    }
+
+    public void clear() {
+        setCapacity(0);
+    }
+
+    void release(GameObject gameObject) {
+        if (gameObjects.size() >= capacity) {
+            gameObject.setPool(null);
+            return;
+        }
+        gameObject.recycle();
+        gameObjects.addLast(gameObject);
+    }
+}
\ No newline at end of file
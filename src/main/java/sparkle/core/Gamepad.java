@@ -4,15 +4,21 @@ import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWGamepadState;
 import org.lwjgl.system.Configuration;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
 public final class Gamepad {
     private static final GamepadAxis[] AXES = GamepadAxis.values();
+    private static final GamepadButton[] BUTTONS = GamepadButton.values();
     private static final List<Gamepad> gamepads = new ArrayList<>();
 
     static {
         Game.throwIfUninitialized();
-        initializeGLFW();
+        if (!Game.isHeadless()) {
+            initializeGLFW();
+        }
         initializeGamepads();
     }
 
@@ -22,6 +28,8 @@ public final class Gamepad {
     private final Set<GamepadButton> lastButtonsPressed;
     private final Map<GamepadAxis, Float> axes;
     private final int id;
+    private boolean connected;
+    private boolean polled;
 
     private Gamepad(int id) {
         buttonsPressed = new HashSet<>();
@@ -45,6 +53,34 @@ public final class Gamepad {
         }
     }
 
+    static void writeAll(DataOutput output) throws IOException {
+        var count = 0;
+        for (var gamepad : gamepads) {
+            count += (gamepad.connected ? 1 : 0);
+        }
+        output.writeByte(count);
+        for (var gamepad : gamepads) {
+            if (gamepad.connected) {
+                gamepad.write(output);
+            }
+        }
+    }
+
+    static void readAll(DataInput input) throws IOException {
+        for (var gamepad : gamepads) {
+            gamepad.connected = false;
+        }
+        var count = input.readUnsignedByte();
+        for (var i = 0; i < count; i++) {
+            gamepads.get(input.readUnsignedByte()).read(input);
+        }
+        for (var gamepad : gamepads) {
+            if (!gamepad.connected) {
+                gamepad.reset();
+            }
+        }
+    }
+
     private static void initializeGLFW() {
         Configuration.GLFW_CHECK_THREAD0.set(false);
         if (!GLFW.glfwInit()) {
@@ -96,11 +132,13 @@ public final class Gamepad {
     }
 
     public boolean isConnected() {
-        return GLFW.glfwJoystickPresent(id) && GLFW.glfwJoystickIsGamepad(id);
+        return connected;
     }
 
     private void update() {
-        if (!isConnected() || !FocusHandler.isFocused()) {
+        connected = !Game.isHeadless() && GLFW.glfwJoystickPresent(id) && GLFW.glfwJoystickIsGamepad(id);
+        polled = connected && FocusHandler.isFocused();
+        if (!polled) {
             reset();
             return;
         }
@@ -129,6 +167,44 @@ public final class Gamepad {
         }
     }
 
+    private void write(DataOutput output) throws IOException {
+        output.writeByte(gamepads.indexOf(this));
+        output.writeBoolean(polled);
+        if (!polled) {
+            return;
+        }
+        var mask = 0;
+        for (var button : buttonsPressed) {
+            mask |= 1 << button.ordinal();
+        }
+        output.writeShort(mask);
+        for (var axis : AXES) {
+            output.writeFloat(axes.get(axis));
+        }
+    }
+
+    private void read(DataInput input) throws IOException {
+        connected = true;
+        polled = input.readBoolean();
+        if (!polled) {
+            reset();
+            return;
+        }
+        var mask = input.readUnsignedShort();
+        buttonsPressed.clear();
+        for (var button : BUTTONS) {
+            if ((mask & (1 << button.ordinal())) != 0) {
+                buttonsPressed.add(button);
+            }
+        }
+        for (var axis : AXES) {
+            axes.put(axis, input.readFloat());
+        }
+        updateButtonsReleased();
+        updateButtonsJustPressed();
+        updateLastButtonsPressed();
+    }
+
     private void updateButtonsReleased() {
         buttonsReleased.clear();
         for (var button : lastButtonsPressed) {
@@ -0,0 +1,73 @@
+package sparkle.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+final class InputPlayer {
+    private final Path path;
+    private final DataInputStream input;
+    private final long seed;
+    private final int simulationRate;
+    private final int maxSubsteps;
+    private boolean sceneSwapped;
+
+    InputPlayer(Path path) {
+        this.path = path;
+        try {
+            input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))));
+            if (input.readInt() != InputRecorder.MAGIC || input.readUnsignedShort() != InputRecorder.VERSION) {
+                throw new IllegalArgumentException("Unsupported input recording: " + path);
+            }
+            seed = input.readLong();
+            simulationRate = input.readInt();
+            maxSubsteps = input.readInt();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open input recording: " + path, e);
+        }
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    int getSimulationRate() {
+        return simulationRate;
+    }
+
+    int getMaxSubsteps() {
+        return maxSubsteps;
+    }
+
+    boolean isSceneSwapped() {
+        return sceneSwapped;
+    }
+
+    boolean readFrame() {
+        try {
+            var delta = input.readFloat();
+            sceneSwapped = input.readBoolean();
+            KeyInput.getInstance().read(input);
+            MouseInput.getInstance().read(input);
+            Gamepad.readAll(input);
+            Time.setDelta(delta);
+            return true;
+        } catch (EOFException e) {
+            return false;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read input recording: " + path, e);
+        }
+    }
+
+    void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not close input recording: " + path, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package sparkle.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+final class InputRecorder {
+    static final int MAGIC = 0x53504b49;
+    static final int VERSION = 1;
+    private final Path path;
+    private final DataOutputStream output;
+
+    InputRecorder(Path path, long seed, int simulationRate, int maxSubsteps) {
+        this.path = path;
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(path))));
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeLong(seed);
+            output.writeInt(simulationRate);
+            output.writeInt(maxSubsteps);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create input recording: " + path, e);
+        }
+    }
+
+    void writeFrame(boolean sceneSwapped) {
+        try {
+            output.writeFloat(Time.getDelta());
+            output.writeBoolean(sceneSwapped);
+            KeyInput.getInstance().write(output);
+            MouseInput.getInstance().write(output);
+            Gamepad.writeAll(output);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write input recording: " + path, e);
+        }
+    }
+
+    void close() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not close input recording: " + path, e);
+        }
+    }
+}
\ No newline at end of file
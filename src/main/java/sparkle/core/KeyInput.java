@@ -2,12 +2,20 @@ package sparkle.core;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 public final class KeyInput implements KeyListener {
+    private static final Key[] KEYS = Key.values();
+    private static final int JUST_PRESSED = 1;
+    private static final int PRESSED = 2;
+    private static final int RELEASED = 4;
+    private static final int TYPED = 8;
     private static KeyInput instance = null;
     private final Set<Key> newKeysPressed;
     private final Set<Key> newKeysReleased;
@@ -89,6 +97,49 @@ public final class KeyInput implements KeyListener {
         keysPressed.clear();
     }
 
+    void write(DataOutput output) throws IOException {
+        var flags = (keysJustPressed.isEmpty() ? 0 : JUST_PRESSED) | (keysPressed.isEmpty() ? 0 : PRESSED) | (keysReleased.isEmpty() ? 0 : RELEASED) | (typedString.isEmpty() ? 0 : TYPED);
+        output.writeByte(flags);
+        writeKeys(output, keysJustPressed);
+        writeKeys(output, keysPressed);
+        writeKeys(output, keysReleased);
+        if ((flags & TYPED) != 0) {
+            output.writeUTF(typedString);
+        }
+    }
+
+    void read(DataInput input) throws IOException {
+        var flags = input.readUnsignedByte();
+        readKeys(input, keysJustPressed, (flags & JUST_PRESSED) != 0);
+        readKeys(input, keysPressed, (flags & PRESSED) != 0);
+        readKeys(input, keysReleased, (flags & RELEASED) != 0);
+        typedString = ((flags & TYPED) != 0 ? input.readUTF() : "");
+        newKeysPressed.clear();
+        newKeysReleased.clear();
+        newTypedString = "";
+    }
+
+    private void writeKeys(DataOutput output, Set<Key> keys) throws IOException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        output.writeShort(keys.size());
+        for (var key : keys) {
+            output.writeShort(key.ordinal());
+        }
+    }
+
+    private void readKeys(DataInput input, Set<Key> keys, boolean present) throws IOException {
+        keys.clear();
+        if (!present) {
+            return;
+        }
+        var count = input.readUnsignedShort();
+        for (var i = 0; i < count; i++) {
+            keys.add(KEYS[input.readUnsignedShort()]);
+        }
+    }
+
     private void updateTypedString() {
         typedString = newTypedString;
         newTypedString = "";
@@ -6,12 +6,19 @@ import sparkle.math.Vector2c;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 public final class MouseInput extends MouseAdapter {
+    private static final MouseButton[] MOUSE_BUTTONS = MouseButton.values();
+    private static final int BUTTONS = 1;
+    private static final int POSITION = 2;
+    private static final int SCROLL = 4;
     private static MouseInput instance = null;
     private final Set<MouseButton> newMouseButtonsClicked;
     private final Set<MouseButton> newMouseButtonsPressed;
@@ -23,6 +30,7 @@ public final class MouseInput extends MouseAdapter {
     private final Vector2 newMousePosition;
     private int scroll;
     private int newScroll;
+    private boolean moved;
 
     private MouseInput() {
         newMouseButtonsClicked = new ConcurrentSkipListSet<>();
@@ -119,6 +127,57 @@ public final class MouseInput extends MouseAdapter {
         scroll = 0;
     }
 
+    void write(DataOutput output) throws IOException {
+        var buttons = !mouseButtonsClicked.isEmpty() || !mouseButtonsPressed.isEmpty() || !mouseButtonsReleased.isEmpty();
+        output.writeByte((buttons ? BUTTONS : 0) | (moved ? POSITION : 0) | (scroll == 0 ? 0 : SCROLL));
+        if (buttons) {
+            output.writeByte(getMask(mouseButtonsClicked));
+            output.writeByte(getMask(mouseButtonsPressed));
+            output.writeByte(getMask(mouseButtonsReleased));
+        }
+        if (moved) {
+            output.writeFloat(mousePosition.getX());
+            output.writeFloat(mousePosition.getY());
+        }
+        if (scroll != 0) {
+            output.writeInt(scroll);
+        }
+    }
+
+    void read(DataInput input) throws IOException {
+        var flags = input.readUnsignedByte();
+        var buttons = (flags & BUTTONS) != 0;
+        setMask(mouseButtonsClicked, buttons ? input.readUnsignedByte() : 0);
+        setMask(mouseButtonsPressed, buttons ? input.readUnsignedByte() : 0);
+        setMask(mouseButtonsReleased, buttons ? input.readUnsignedByte() : 0);
+        moved = (flags & POSITION) != 0;
+        if (moved) {
+            mousePosition.set(input.readFloat(), input.readFloat());
+        }
+        scroll = ((flags & SCROLL) != 0 ? input.readInt() : 0);
+        newMouseButtonsClicked.clear();
+        newMouseButtonsPressed.clear();
+        newMouseButtonsReleased.clear();
+        newScroll = 0;
+    }
+
+    private int getMask(Set<MouseButton> mouseButtons) {
+        var mask = 0;
+        for (var mouseButton : mouseButtons) {
+            mask |= 1 << mouseButton.ordinal();
+        }
+        return mask;
+    }
+
+    private void setMask(Set<MouseButton> mouseButtons, int mask) {
+        mouseButtons.clear();
+        for (var mouseButton : MOUSE_BUTTONS) {
+            if ((mask & (1 << mouseButton.ordinal())) != 0) {
+                mouseButtons.add(mouseButton);
+            }
+        }
+    }
+
     private void updateMouseButtonsClicked() {
         mouseButtonsClicked.clear();
         mouseButtonsClicked.addAll(newMouseButtonsClicked);
@@ -141,8 +200,9 @@ public final class MouseInput extends MouseAdapter {
         var scaleFactor = Game.getScaleFactor();
         var windowSize = Game.getSize().multiply(scaleFactor);
         var offset = Game.getActualSize().minus(windowSize).divide(2);
-        var position = newMousePosition.minus(offset).divide(scaleFactor);
-        mousePosition.set(position.clampX(0, Game.getWidth()).clampY(0, Game.getHeight()));
+        var position = newMousePosition.minus(offset).divide(scaleFactor).clampX(0, Game.getWidth()).clampY(0, Game.getHeight());
+        moved = !mousePosition.equals(position);
+        mousePosition.set(position);
     }
 
     private void updateScroll() {
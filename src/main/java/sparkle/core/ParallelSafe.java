@@ -0,0 +1,9 @@
+package sparkle.core;
+
+import java.lang.annotation.*;
+
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ParallelSafe {}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package sparkle.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+final class ParallelUpdate {
+    private static final int BATCH_SIZE = 64;
+    private static final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
+    private static volatile boolean running = false;
+
+    private ParallelUpdate() {}
+
+    static boolean isRunning() {
+        return running;
+    }
+
+    static boolean defer(Runnable mutation) {
+        if (!running) {
+            return false;
+        }
+        var batch = currentBatch.get();
+        if (batch == null) {
+            return false;
+        }
+        batch.defer(mutation);
+        return true;
+    }
+
+    static void run(List<Component> components) {
+        var batches = new ArrayList<Batch>();
+        for (var start = 0; start < components.size(); start += BATCH_SIZE) {
+            batches.add(new Batch(components, start, Math.min(start + BATCH_SIZE, components.size())));
+        }
+        running = true;
+        try {
+            ForkJoinPool.commonPool().invoke(new Stage(batches));
+        } finally {
+            running = false;
+        }
+        for (var batch : batches) {
+            batch.commit();
+        }
+    }
+
+    private static final class Stage extends RecursiveAction {
+        private final List<Batch> batches;
+
+        private Stage(List<Batch> batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(batches);
+        }
+    }
+
+    private static final class Batch extends RecursiveAction {
+        private final List<Component> components;
+        private final int start;
+        private final int end;
+        private List<Runnable> mutations;
+
+        private Batch(List<Component> components, int start, int end) {
+            this.components = components;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            currentBatch.set(this);
+            try {
+                for (var i = start; i < end; i++) {
+                    components.get(i).update();
+                }
+            } finally {
+                currentBatch.remove();
+            }
+        }
+
+        private void defer(Runnable mutation) {
+            if (mutations == null) {
+                mutations = new ArrayList<>();
+            }
+            mutations.add(mutation);
+        }
+
+        private void commit() {
+            if (mutations == null) {
+                return;
+            }
+            for (var mutation : mutations) {
+                mutation.run();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package sparkle.core;
+
+import sparkle.assets.Font;
+import sparkle.drawables.Rectangle;
+import sparkle.drawables.Text;
+import sparkle.math.Vector2;
+import sparkle.paints.Color;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+public final class Profiler {
+    private static final ProfilerPhase[] PHASES = ProfilerPhase.values();
+    private static final int SAMPLE_COUNT = 300;
+    private static final int OVERLAY_REFRESH_RATE = 30;
+    private static final int OVERLAY_COMPONENT_COUNT = 5;
+    private static final float OVERLAY_FONT_SIZE = 12;
+    private static Profiler instance = null;
+    private final long[][] phaseSamples;
+    private final long[] allocatedBytesSamples;
+    private final long[] sortedSamples;
+    private final long[] currentPhaseTimes;
+    private final Map<Class<? extends Component>, ComponentTimes> componentTimes;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final Text overlayText;
+    private final Rectangle overlayBackground;
+    private ProfilerMode mode;
+    private long frameCount;
+    private long lastAllocatedBytes;
+    private int drawCount;
+    private int currentDrawCount;
+
+    private Profiler() {
+        phaseSamples = new long[PHASES.length][SAMPLE_COUNT];
+        allocatedBytesSamples = new long[SAMPLE_COUNT];
+        sortedSamples = new long[SAMPLE_COUNT];
+        currentPhaseTimes = new long[PHASES.length];
+        componentTimes = new HashMap<>();
+        threadMXBean = getThreadMXBean();
+        overlayText = new Text(new Vector2(8, 8), new Font(new java.awt.Font(java.awt.Font.MONOSPACED, java.awt.Font.PLAIN, (int) OVERLAY_FONT_SIZE)), Color.WHITE, null, null, "", OVERLAY_FONT_SIZE, 0, 0);
+        overlayBackground = new Rectangle(new Vector2(), new Vector2(), new Color(0, 0, 0, 160));
+        overlayText.setRenderingMode(RenderingMode.SCREEN);
+        overlayBackground.setRenderingMode(RenderingMode.SCREEN);
+        mode = ProfilerMode.DISABLED;
+        lastAllocatedBytes = -1;
+    }
+
+    public static ProfilerMode getMode() {
+        return getInstance().mode;
+    }
+
+    public static void setMode(ProfilerMode mode) {
+        var instance = getInstance();
+        instance.mode = Objects.requireNonNullElse(mode, ProfilerMode.DISABLED);
+        if (!instance.mode.isEnabled()) {
+            reset();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return getInstance().mode.isEnabled();
+    }
+
+    public static long begin() {
+        return isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public static long end(ProfilerPhase phase, long startTime) {
+        var instance = getInstance();
+        if (!instance.mode.isEnabled()) {
+            return 0;
+        }
+        var endTime = System.nanoTime();
+        instance.currentPhaseTimes[phase.ordinal()] += endTime - startTime;
+        return endTime;
+    }
+
+    public static float getPhaseTime(ProfilerPhase phase, float percentile) {
+        var instance = getInstance();
+        return (float) (instance.getPercentile(instance.phaseSamples[phase.ordinal()], percentile) / 1e9);
+    }
+
+    public static long getAllocatedBytes() {
+        var instance = getInstance();
+        if (instance.frameCount == 0) {
+            return 0;
+        }
+        return instance.allocatedBytesSamples[(int) ((instance.frameCount - 1) % SAMPLE_COUNT)];
+    }
+
+    public static long getAllocatedBytes(float percentile) {
+        var instance = getInstance();
+        return instance.getPercentile(instance.allocatedBytesSamples, percentile);
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return getInstance().threadMXBean != null;
+    }
+
+    public static int getDrawCount() {
+        return getInstance().drawCount;
+    }
+
+    public static List<ComponentProfile> getComponentProfiles() {
+        var result = new ArrayList<ComponentProfile>();
+        for (var entry : getInstance().componentTimes.entrySet()) {
+            result.add(entry.getValue().toProfile(entry.getKey()));
+        }
+        result.sort(Comparator.comparingDouble(ComponentProfile::getTotalTime).reversed());
+        return result;
+    }
+
+    public static void reset() {
+        var instance = getInstance();
+        for (var samples : instance.phaseSamples) {
+            Arrays.fill(samples, 0);
+        }
+        Arrays.fill(instance.allocatedBytesSamples, 0);
+        Arrays.fill(instance.currentPhaseTimes, 0);
+        instance.componentTimes.clear();
+        instance.frameCount = 0;
+        instance.drawCount = 0;
+        instance.currentDrawCount = 0;
+        instance.lastAllocatedBytes = -1;
+    }
+
+    static Profiler getInstance() {
+        Game.throwIfUninitialized();
+        return instance = instance == null ? new Profiler() : instance;
+    }
+
+    static void endComponentUpdate(Component component, long startTime, boolean fixed) {
+        var instance = getInstance();
+        if (!instance.mode.isEnabled()) {
+            return;
+        }
+        var times = instance.componentTimes.computeIfAbsent(component.getClass(), componentClass -> new ComponentTimes());
+        times.add(System.nanoTime() - startTime, fixed);
+    }
+
+    void countDraw() {
+        if (mode.isEnabled()) {
+            currentDrawCount++;
+        }
+    }
+
+    void endFrame() {
+        if (!mode.isEnabled()) {
+            return;
+        }
+        var index = (int) (frameCount % SAMPLE_COUNT);
+        currentPhaseTimes[ProfilerPhase.UPDATE.ordinal()] -= currentPhaseTimes[ProfilerPhase.PHYSICS.ordinal()] + currentPhaseTimes[ProfilerPhase.DRAW.ordinal()];
+        currentPhaseTimes[ProfilerPhase.FRAME.ordinal()] = 0;
+        var frameTime = 0L;
+        for (var phase : PHASES) {
+            frameTime += currentPhaseTimes[phase.ordinal()];
+        }
+        currentPhaseTimes[ProfilerPhase.FRAME.ordinal()] = frameTime;
+        for (var phase : PHASES) {
+            phaseSamples[phase.ordinal()][index] = currentPhaseTimes[phase.ordinal()];
+        }
+        Arrays.fill(currentPhaseTimes, 0);
+        allocatedBytesSamples[index] = getAllocatedBytesSinceLastFrame();
+        drawCount = currentDrawCount;
+        currentDrawCount = 0;
+        frameCount++;
+    }
+
+    void drawOverlay(Renderer renderer) {
+        if (mode != ProfilerMode.OVERLAY) {
+            return;
+        }
+        if (frameCount % OVERLAY_REFRESH_RATE == 1 || overlayText.getText().isEmpty()) {
+            overlayText.setText(buildOverlayText());
+            overlayBackground.getSize().set(overlayText.getSize().plus(16));
+        }
+        renderer.drawUnprofiled(overlayBackground);
+        renderer.drawUnprofiled(overlayText);
+    }
+
+    private String buildOverlayText() {
+        var builder = new StringBuilder();
+        for (var phase : PHASES) {
+            builder.append(String.format(Locale.ENGLISH, "%-8s p50 %6.2f ms  p99 %6.2f ms%n", phase, getPhaseTime(phase, 50) * 1000, getPhaseTime(phase, 99) * 1000));
+        }
+        if (threadMXBean != null) {
+            builder.append(String.format(Locale.ENGLISH, "ALLOC    p50 %6d KB  p99 %6d KB%n", getAllocatedBytes(50) / 1024, getAllocatedBytes(99) / 1024));
+        }
+        builder.append("DRAWS    ").append(drawCount);
+        var profiles = getComponentProfiles();
+        for (var i = 0; i < Math.min(OVERLAY_COMPONENT_COUNT, profiles.size()); i++) {
+            var profile = profiles.get(i);
+            builder.append(String.format(Locale.ENGLISH, "%n%-24s %8.1f ms", profile.componentClass().getSimpleName(), profile.getTotalTime() * 1000));
+        }
+        return builder.toString();
+    }
+
+    private long getPercentile(long[] samples, float percentile) {
+        var sampleCount = (int) Math.min(frameCount, SAMPLE_COUNT);
+        if (sampleCount == 0) {
+            return 0;
+        }
+        System.arraycopy(samples, 0, sortedSamples, 0, sampleCount);
+        Arrays.sort(sortedSamples, 0, sampleCount);
+        var index = Math.round(Math.max(0, Math.min(100, percentile)) / 100 * (sampleCount - 1));
+        return sortedSamples[index];
+    }
+
+    private long getAllocatedBytesSinceLastFrame() {
+        if (threadMXBean == null) {
+            return 0;
+        }
+        var allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        var result = (lastAllocatedBytes < 0 ? 0 : allocatedBytes - lastAllocatedBytes);
+        lastAllocatedBytes = allocatedBytes;
+        return result;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)) {
+            return null;
+        }
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threadMXBean;
+    }
+
+    private static final class ComponentTimes {
+        private long updateTime;
+        private long updateCount;
+        private long fixedUpdateTime;
+        private long fixedUpdateCount;
+
+        private void add(long time, boolean fixed) {
+            if (fixed) {
+                fixedUpdateTime += time;
+                fixedUpdateCount++;
+                return;
+            }
+            updateTime += time;
+            updateCount++;
+        }
+
+        private ComponentProfile toProfile(Class<? extends Component> componentClass) {
+            return new ComponentProfile(componentClass, (float) (updateTime / 1e9), updateCount, (float) (fixedUpdateTime / 1e9), fixedUpdateCount);
+        }
+    }
+}
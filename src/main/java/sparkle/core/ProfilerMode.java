@@ -0,0 +1,11 @@
+package sparkle.core;
+
+public enum ProfilerMode {
+    DISABLED,
+    ENABLED,
+    OVERLAY;
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+}
@@ -0,0 +1,11 @@
+package sparkle.core;
+
+public enum ProfilerPhase {
+    WAIT,
+    INPUT,
+    UPDATE,
+    PHYSICS,
+    DRAW,
+    PRESENT,
+    FRAME
+}
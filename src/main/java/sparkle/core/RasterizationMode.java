@@ -0,0 +1,6 @@
+package sparkle.core;
+
+public enum RasterizationMode {
+    SERIAL,
+    TILED
+}
\ No newline at end of file
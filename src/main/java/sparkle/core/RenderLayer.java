@@ -0,0 +1,145 @@
+package sparkle.core;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class RenderLayer {
+    private final int minZIndex;
+    private final int maxZIndex;
+    private final String tag;
+    private final List<Run> runs;
+    private int runCount;
+    private long frame;
+    private boolean staticLayer;
+
+    public RenderLayer(int minZIndex, int maxZIndex) {
+        this(minZIndex, maxZIndex, null, true);
+    }
+
+    public RenderLayer(String tag) {
+        this(Integer.MIN_VALUE, Integer.MAX_VALUE, tag, true);
+    }
+
+    public RenderLayer(int minZIndex, int maxZIndex, String tag, boolean staticLayer) {
+        if (minZIndex > maxZIndex) {
+            throw new IllegalArgumentException("Minimum z-index cannot be greater than maximum z-index");
+        }
+        this.minZIndex = minZIndex;
+        this.maxZIndex = maxZIndex;
+        this.tag = tag;
+        this.staticLayer = staticLayer;
+        runs = new ArrayList<>();
+        frame = -1;
+    }
+
+    public boolean contains(GameObject gameObject) {
+        var zIndex = gameObject.getZIndex();
+        return zIndex >= minZIndex && zIndex <= maxZIndex && (tag == null || gameObject.getTags().contains(tag));
+    }
+
+    public void invalidate() {
+        for (var run : runs) {
+            run.invalidated = true;
+        }
+    }
+
+    public int getMinZIndex() {
+        return minZIndex;
+    }
+
+    public int getMaxZIndex() {
+        return maxZIndex;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public boolean isStatic() {
+        return staticLayer;
+    }
+
+    public void setStatic(boolean staticLayer) {
+        if (this.staticLayer == staticLayer) {
+            return;
+        }
+        this.staticLayer = staticLayer;
+        if (!staticLayer) {
+            release();
+        }
+    }
+
+    Drawable capture(Drawable drawable, long frame, boolean newRun) {
+        if (this.frame != frame) {
+            this.frame = frame;
+            runCount = 0;
+            newRun = true;
+        }
+        if (!newRun) {
+            runs.get(runCount - 1).capture(drawable);
+            return null;
+        }
+        if (runCount == runs.size()) {
+            runs.add(new Run());
+        }
+        var run = runs.get(runCount++);
+        run.count = 0;
+        run.capture(drawable);
+        return run.bakedLayer;
+    }
+
+    void bake(Graphics2D graphics, Interpolation interpolation) {
+        for (var i = 0; i < runCount; i++) {
+            runs.get(i).bake(graphics, interpolation);
+        }
+        while (runs.size() > runCount) {
+            runs.remove(runs.size() - 1).bakedLayer.release();
+        }
+    }
+
+    void release() {
+        for (var run : runs) {
+            run.bakedLayer.release();
+        }
+        runs.clear();
+        runCount = 0;
+        frame = -1;
+    }
+
+    private static final class Run {
+        private final List<Drawable> drawables = new ArrayList<>();
+        private final BakedLayer bakedLayer = new BakedLayer();
+        private int[] versions = new int[16];
+        private int count;
+        private boolean invalidated = true;
+
+        private void capture(Drawable drawable) {
+            if (count < drawables.size() && drawables.get(count) == drawable && versions[count] == drawable.getRenderVersion()) {
+                count++;
+                return;
+            }
+            if (count < drawables.size()) {
+                drawables.subList(count, drawables.size()).clear();
+            }
+            if (count == versions.length) {
+                versions = Arrays.copyOf(versions, count * 2);
+            }
+            drawables.add(drawable);
+            versions[count++] = drawable.getRenderVersion();
+            invalidated = true;
+        }
+
+        private void bake(Graphics2D graphics, Interpolation interpolation) {
+            if (!invalidated && count == drawables.size()) {
+                return;
+            }
+            if (count < drawables.size()) {
+                drawables.subList(count, drawables.size()).clear();
+            }
+            invalidated = false;
+            bakedLayer.bake(drawables, graphics, interpolation);
+        }
+    }
+}
\ No newline at end of file
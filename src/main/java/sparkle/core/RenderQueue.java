@@ -0,0 +1,295 @@
+package sparkle.core;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+final class RenderQueue {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int BATCH_LOOKBEHIND = 32;
+    private static final Comparator<Command> LAYER_ORDER = Comparator.comparingInt((Command command) -> command.layer).thenComparingInt(command -> command.sequence);
+    private Command[] commands;
+    private Command[] orderedCommands;
+    private Command[] batchHeads;
+    private Command[] batchTails;
+    private int size;
+    private int batchCount;
+    private int generation;
+
+    RenderQueue() {
+        commands = new Command[INITIAL_CAPACITY];
+        orderedCommands = new Command[INITIAL_CAPACITY];
+        batchHeads = new Command[INITIAL_CAPACITY];
+        batchTails = new Command[INITIAL_CAPACITY];
+        for (var i = 0; i < commands.length; i++) {
+            commands[i] = new Command();
+        }
+    }
+
+    boolean isQueued(Drawable drawable) {
+        return drawable.getQueuedGeneration() == generation;
+    }
+
+    void add(Drawable drawable, Interpolation interpolation, int layer) {
+        if (size == commands.length) {
+            grow();
+        }
+        var command = commands[size];
+        command.drawable = drawable;
+        command.interpolation = interpolation;
+        command.layer = layer;
+        command.sequence = size;
+        drawable.setQueuedGeneration(generation);
+        size++;
+    }
+
+    Interpolation flush(Graphics2D graphics, Interpolation interpolation, TileRasterizer tileRasterizer, DirtyTracker dirtyTracker, boolean endOfFrame) {
+        if (size == 0 && dirtyTracker == null) {
+            return interpolation;
+        }
+        try {
+            for (var i = 0; i < size; i++) {
+                commands[i].resolve();
+            }
+            var dirtyRegion = (DirtyRegion) null;
+            if (dirtyTracker != null) {
+                for (var i = 0; i < size; i++) {
+                    dirtyTracker.track(commands[i]);
+                }
+                if (endOfFrame) {
+                    dirtyTracker.collectRemoved();
+                }
+                dirtyRegion = dirtyTracker.getRegion();
+                if (size == 0 || dirtyRegion.isEmpty()) {
+                    return interpolation;
+                }
+                dirtyTracker.markChanged();
+                if (dirtyRegion.isFull()) {
+                    dirtyRegion = null;
+                }
+            }
+            Arrays.sort(commands, 0, size, LAYER_ORDER);
+            var orderedCount = 0;
+            var start = 0;
+            for (var i = 1; i <= size; i++) {
+                if (i == size || commands[i].layer != commands[start].layer) {
+                    batchLayer(start, i);
+                    orderedCount = collectBatches(orderedCount);
+                    start = i;
+                }
+            }
+            if (tileRasterizer == null) {
+                return (dirtyRegion == null ? play(graphics, interpolation) : play(graphics, interpolation, dirtyRegion));
+            }
+            tileRasterizer.rasterize(graphics, orderedCommands, size, dirtyRegion);
+            countDraws();
+            return interpolation;
+        } finally {
+            for (var i = 0; i < size; i++) {
+                commands[i].clear();
+            }
+            Arrays.fill(orderedCommands, 0, size, null);
+            Arrays.fill(batchHeads, 0, batchCount, null);
+            Arrays.fill(batchTails, 0, batchCount, null);
+            size = 0;
+            batchCount = 0;
+            generation++;
+        }
+    }
+
+    private void batchLayer(int start, int end) {
+        batchCount = 0;
+        for (var i = start; i < end; i++) {
+            var command = commands[i];
+            var batch = findBatch(command);
+            if (batch < 0) {
+                if (batchCount == batchHeads.length) {
+                    batchHeads = Arrays.copyOf(batchHeads, batchCount * 2);
+                    batchTails = Arrays.copyOf(batchTails, batchCount * 2);
+                }
+                batch = batchCount++;
+                batchHeads[batch] = command;
+            } else {
+                batchTails[batch].next = command;
+                batchHeads[batch].extendBounds(command);
+            }
+            batchTails[batch] = command;
+        }
+    }
+
+    private int findBatch(Command command) {
+        if (!command.bounded) {
+            return -1;
+        }
+        for (var batch = batchCount - 1; batch >= Math.max(0, batchCount - BATCH_LOOKBEHIND); batch--) {
+            var head = batchHeads[batch];
+            if (head.interpolation == command.interpolation && Objects.equals(head.state, command.state) && head.bounded) {
+                return batch;
+            }
+            if (!head.bounded || head.overlaps(command)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private int collectBatches(int orderedCount) {
+        for (var batch = 0; batch < batchCount; batch++) {
+            for (var command = batchHeads[batch]; command != null; command = command.next) {
+                orderedCommands[orderedCount++] = command;
+            }
+        }
+        Arrays.fill(batchHeads, 0, batchCount, null);
+        Arrays.fill(batchTails, 0, batchCount, null);
+        batchCount = 0;
+        return orderedCount;
+    }
+
+    private Interpolation play(Graphics2D graphics, Interpolation interpolation) {
+        var profiler = Profiler.getInstance();
+        for (var i = 0; i < size; i++) {
+            var command = orderedCommands[i];
+            if (command.interpolation != interpolation) {
+                interpolation = command.interpolation;
+                graphics.setRenderingHint(Interpolation.key, interpolation.value);
+            }
+            command.drawable.render(graphics);
+            profiler.countDraw();
+        }
+        return interpolation;
+    }
+
+    private Interpolation play(Graphics2D graphics, Interpolation interpolation, DirtyRegion dirtyRegion) {
+        var profiler = Profiler.getInstance();
+        var clip = graphics.getClip();
+        try {
+            for (var rectangle = 0; rectangle < dirtyRegion.size(); rectangle++) {
+                var x = dirtyRegion.getX(rectangle);
+                var y = dirtyRegion.getY(rectangle);
+                var width = dirtyRegion.getWidth(rectangle);
+                var height = dirtyRegion.getHeight(rectangle);
+                graphics.setClip(x, y, width, height);
+                for (var i = 0; i < size; i++) {
+                    var command = orderedCommands[i];
+                    if (!command.intersects(x, y, width, height)) {
+                        continue;
+                    }
+                    if (command.interpolation != interpolation) {
+                        interpolation = command.interpolation;
+                        graphics.setRenderingHint(Interpolation.key, interpolation.value);
+                    }
+                    command.drawable.render(graphics);
+                    profiler.countDraw();
+                }
+            }
+        } finally {
+            graphics.setClip(clip);
+        }
+        return interpolation;
+    }
+
+    private void countDraws() {
+        var profiler = Profiler.getInstance();
+        for (var i = 0; i < size; i++) {
+            profiler.countDraw();
+        }
+    }
+
+    private void grow() {
+        var capacity = commands.length;
+        commands = Arrays.copyOf(commands, capacity * 2);
+        orderedCommands = new Command[commands.length];
+        for (var i = capacity; i < commands.length; i++) {
+            commands[i] = new Command();
+        }
+    }
+
+    static final class Command {
+        private Drawable drawable;
+        private Interpolation interpolation;
+        private Object state;
+        private Command next;
+        private int layer;
+        private int sequence;
+        private boolean bounded;
+        private float minX;
+        private float minY;
+        private float maxX;
+        private float maxY;
+        private float batchMinX;
+        private float batchMinY;
+        private float batchMaxX;
+        private float batchMaxY;
+
+        Drawable getDrawable() {
+            return drawable;
+        }
+
+        Interpolation getInterpolation() {
+            return interpolation;
+        }
+
+        Object getState() {
+            return state;
+        }
+
+        int getLayer() {
+            return layer;
+        }
+
+        boolean isBounded() {
+            return bounded;
+        }
+
+        float getMinX() {
+            return minX;
+        }
+
+        float getMinY() {
+            return minY;
+        }
+
+        float getMaxX() {
+            return maxX;
+        }
+
+        float getMaxY() {
+            return maxY;
+        }
+
+        boolean intersects(int x, int y, int width, int height) {
+            return !bounded || (minX < x + width && maxX > x && minY < y + height && maxY > y);
+        }
+
+        private void resolve() {
+            drawable.resolveInterpolationOffset();
+            state = drawable.getRenderState();
+            bounded = drawable.updateScreenBounds();
+            if (bounded) {
+                minX = batchMinX = drawable.getScreenMinX();
+                minY = batchMinY = drawable.getScreenMinY();
+                maxX = batchMaxX = drawable.getScreenMaxX();
+                maxY = batchMaxY = drawable.getScreenMaxY();
+            }
+        }
+
+        private boolean overlaps(Command command) {
+            return batchMinX < command.maxX && batchMaxX > command.minX && batchMinY < command.maxY && batchMaxY > command.minY;
+        }
+
+        private void extendBounds(Command command) {
+            batchMinX = Math.min(batchMinX, command.minX);
+            batchMinY = Math.min(batchMinY, command.minY);
+            batchMaxX = Math.max(batchMaxX, command.maxX);
+            batchMaxY = Math.max(batchMaxY, command.maxY);
+        }
+
+        private void clear() {
+            drawable = null;
+            interpolation = null;
+            state = null;
+            next = null;
+        }
+    }
+}
\ No newline at end of file
@@ -3,23 +3,68 @@ package sparkle.core;
 import sparkle.paints.Paint;
 
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public final class Renderer {
+    private final RenderQueue renderQueue;
+    private final TileRasterizer tileRasterizer;
+    private final DirtyTracker dirtyTracker;
+    private final List<ScreenFill> screenFills;
+    private final List<RenderLayer> capturingLayers;
     private Graphics2D graphics;
     private Interpolation interpolation;
+    private Interpolation appliedInterpolation;
+    private RenderLayer renderLayer;
+    private RenderLayer capturedLayer;
+    private long frame;
+    private int screenFillCount;
+    private int layer;
+    private boolean tracking;
 
     Renderer() {
+        renderQueue = new RenderQueue();
+        tileRasterizer = new TileRasterizer();
+        dirtyTracker = new DirtyTracker();
+        screenFills = new ArrayList<>();
+        capturingLayers = new ArrayList<>();
         interpolation = Interpolation.NEAREST_NEIGHBOR;
+        layer = Integer.MIN_VALUE;
     }
 
     public void clearScreen(Paint paint) {
-        graphics.setPaint(paint.getPaint());
-        graphics.fillRect(0, 0, Game.getWidth(), Game.getHeight());
+        if (graphics == null) {
+            return;
+        }
+        if (screenFillCount == screenFills.size()) {
+            screenFills.add(new ScreenFill());
+        }
+        var screenFill = screenFills.get(screenFillCount++);
+        screenFill.setPaint(Objects.requireNonNull(paint));
+        draw(screenFill);
     }
 
     public void draw(Drawable drawable) {
-        drawable.render(graphics);
+        if (graphics == null) {
+            return;
+        }
+        if (renderLayer != null && drawable.getRenderingMode() == RenderingMode.WORLD) {
+            var bakedLayer = renderLayer.capture(drawable, frame, capturedLayer != renderLayer);
+            if (bakedLayer != null) {
+                if (!capturingLayers.contains(renderLayer)) {
+                    capturingLayers.add(renderLayer);
+                }
+                draw(bakedLayer);
+            }
+            capturedLayer = renderLayer;
+            return;
+        }
+        capturedLayer = null;
+        if (renderQueue.isQueued(drawable)) {
+            flush(false);
+        }
+        renderQueue.add(drawable, Objects.requireNonNullElse(drawable.getInterpolation(), interpolation), layer);
     }
 
     public Interpolation getInterpolation() {
@@ -28,13 +73,80 @@ public final class Renderer {
 
     public void setInterpolation(Interpolation interpolation) {
         this.interpolation = Objects.requireNonNullElse(interpolation, Interpolation.NEAREST_NEIGHBOR);
+    }
+
+    void drawUnprofiled(Drawable drawable) {
         if (graphics != null) {
-            graphics.setRenderingHint(Interpolation.key, this.interpolation.value);
+            drawable.resolveInterpolationOffset();
+            if (tracking) {
+                dirtyTracker.trackImmediate(drawable);
+            }
+            applyInterpolation(Objects.requireNonNullElse(drawable.getInterpolation(), interpolation));
+            drawable.render(graphics);
         }
     }
 
+    void flush() {
+        flush(true);
+    }
+
+    boolean isFrameChanged() {
+        return !tracking || dirtyTracker.isChanged();
+    }
+
+    void invalidate() {
+        dirtyTracker.invalidateNextFrame();
+    }
+
+    void setLayer(int layer) {
+        this.layer = layer;
+    }
+
+    void setRenderLayer(RenderLayer renderLayer) {
+        this.renderLayer = renderLayer;
+    }
+
     void setGraphics(Graphics2D graphics) {
         this.graphics = graphics;
-        setInterpolation(interpolation);
+        layer = Integer.MIN_VALUE;
+        renderLayer = null;
+        capturedLayer = null;
+        capturingLayers.clear();
+        frame++;
+        appliedInterpolation = null;
+        screenFillCount = 0;
+        var tracking = graphics != null && Game.isDirtyRendering();
+        if (tracking && !this.tracking) {
+            dirtyTracker.invalidateNextFrame();
+        }
+        this.tracking = tracking;
+        if (tracking) {
+            dirtyTracker.beginFrame();
+        }
+    }
+
+    private void flush(boolean endOfFrame) {
+        if (graphics == null) {
+            return;
+        }
+        var section = Profiler.begin();
+        var tileRasterizer = (Game.getRasterizationMode() == RasterizationMode.TILED ? this.tileRasterizer : null);
+        var dirtyTracker = (tracking ? this.dirtyTracker : null);
+        if (dirtyTracker != null && !endOfFrame) {
+            dirtyTracker.invalidate();
+        }
+        for (var capturingLayer : capturingLayers) {
+            capturingLayer.bake(graphics, interpolation);
+        }
+        capturedLayer = null;
+        appliedInterpolation = renderQueue.flush(graphics, appliedInterpolation, tileRasterizer, dirtyTracker, endOfFrame);
+        Profiler.end(ProfilerPhase.DRAW, section);
+    }
+
+    private void applyInterpolation(Interpolation interpolation) {
+        if (appliedInterpolation != interpolation) {
+            appliedInterpolation = interpolation;
+            graphics.setRenderingHint(Interpolation.key, interpolation.value);
+        }
     }
 }
\ No newline at end of file
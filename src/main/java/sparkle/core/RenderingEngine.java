@@ -2,36 +2,67 @@ package sparkle.core;
 
 import java.awt.*;
 import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
 import java.awt.image.VolatileImage;
 
 public final class RenderingEngine {
+    private static final int MAX_SKIPPED_PRESENTS = 30;
     private final BufferStrategy bufferStrategy;
     private final RenderingHints renderingHints;
     private VolatileImage imageBuffer;
+    private BufferedImage offscreenImage;
     private Graphics2D graphicsBuffer;
+    private int skippedPresents;
 
     RenderingEngine() {
+        renderingHints = buildRenderingHints();
+        if (Game.isHeadless()) {
+            bufferStrategy = null;
+            return;
+        }
         var frame = Game.getFrame();
         frame.createBufferStrategy(3);
         bufferStrategy = frame.getBufferStrategy();
-        renderingHints = buildRenderingHints();
     }
 
     public void initialize() {
+        var runMode = Game.getRunMode();
+        if (runMode.isHeadless()) {
+            if (runMode.isRendering()) {
+                offscreenImage = new BufferedImage(Game.getWidth(), Game.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            }
+            return;
+        }
         var graphicsConfiguration = Game.getGraphicsConfiguration();
         imageBuffer = graphicsConfiguration.createCompatibleVolatileImage(Game.getWidth(), Game.getHeight());
     }
 
     public Graphics2D buildGraphics() {
-        graphicsBuffer = imageBuffer.createGraphics();
+        if (!Game.getRunMode().isRendering()) {
+            graphicsBuffer = null;
+            return null;
+        }
+        graphicsBuffer = (offscreenImage == null ? imageBuffer.createGraphics() : offscreenImage.createGraphics());
         graphicsBuffer.setRenderingHints(renderingHints);
         return graphicsBuffer;
     }
 
     public void renderScreen() {
+        renderScreen(true);
+    }
+
+    void renderScreen(boolean changed) {
         if (graphicsBuffer != null) {
             graphicsBuffer.dispose();
         }
+        if (bufferStrategy == null) {
+            return;
+        }
+        if (!changed && skippedPresents < MAX_SKIPPED_PRESENTS && !bufferStrategy.contentsRestored()) {
+            skippedPresents++;
+            return;
+        }
+        skippedPresents = 0;
         Graphics2D graphics = null;
         do {
             try {
@@ -47,6 +78,23 @@ public final class RenderingEngine {
         } while (bufferStrategy.contentsLost());
     }
 
+    boolean restoreContents() {
+        if (imageBuffer == null) {
+            return false;
+        }
+        var graphicsConfiguration = Game.getGraphicsConfiguration();
+        var status = imageBuffer.validate(graphicsConfiguration);
+        if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+            imageBuffer.flush();
+            imageBuffer = graphicsConfiguration.createCompatibleVolatileImage(Game.getWidth(), Game.getHeight());
+        }
+        return status != VolatileImage.IMAGE_OK;
+    }
+
+    BufferedImage getOffscreenImage() {
+        return offscreenImage;
+    }
+
     private void drawOnGraphics(Graphics2D graphics) {
         var graphicsConfiguration = Game.getGraphicsConfiguration();
         if (imageBuffer.validate(graphicsConfiguration) == VolatileImage.IMAGE_INCOMPATIBLE) {
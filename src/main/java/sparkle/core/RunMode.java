@@ -0,0 +1,15 @@
+package sparkle.core;
+
+public enum RunMode {
+    WINDOWED,
+    HEADLESS,
+    HEADLESS_NO_RENDERING;
+
+    public boolean isHeadless() {
+        return this != WINDOWED;
+    }
+
+    public boolean isRendering() {
+        return this != HEADLESS_NO_RENDERING;
+    }
+}
@@ -1,24 +1,46 @@
 package sparkle.core;
 
+import sparkle.ecs.Entities;
+import sparkle.math.Bounds;
 import sparkle.math.Camera;
 import sparkle.math.Vector2;
+import sparkle.math.Vector2Base;
 import sparkle.physics.Physics;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public abstract class Scene implements Iterable<GameObject> {
+    public static final float DEFAULT_SPATIAL_CELL_SIZE = 128;
     private final List<GameObject> gameObjects = new ArrayList<>();
     private final List<GameObject> gameObjectsToAdd = new ArrayList<>();
     private final List<GameObject> gameObjectsToRemove = new ArrayList<>();
+    private final GameObjectIndex<String> gameObjectsByName = new GameObjectIndex<>();
+    private final GameObjectIndex<String> gameObjectsByTag = new GameObjectIndex<>();
+    private final GameObjectIndex<Class<?>> gameObjectsByType = new GameObjectIndex<>();
+    private final List<Component> parallelComponents = new ArrayList<>();
+    private final List<RenderLayer> renderLayers = new ArrayList<>();
     private final Camera camera = new Camera();
     private final Physics physics = new Physics(new Vector2(0, 9.807f));
+    private final Entities entities = new Entities();
+    private final Scheduler scheduler = new Scheduler();
+    private final EventBus events = new EventBus();
+    private final Random random = new Random();
+    private SpatialGrid spatialGrid = new SpatialGrid(DEFAULT_SPATIAL_CELL_SIZE);
     private boolean cleaned = true;
+    private int nextSceneOrder;
+    private boolean sorted = true;
     private boolean initialized = false;
+    private volatile float loadingProgress = 0;
+    private volatile boolean loaded = false;
 
     protected abstract void initialize();
 
     protected abstract void update();
 
+    protected void load() {}
+
     @Override
     public Iterator<GameObject> iterator() {
         return getGameObjects().iterator();
@@ -29,70 +51,66 @@ public abstract class Scene implements Iterable<GameObject> {
     }
 
     public GameObject getGameObjectByName(String name) {
-        for (var gameObject : gameObjects) {
-            if (gameObject.getName().equals(name)) {
-                return gameObject;
-            }
-        }
-        return null;
+        return gameObjectsByName.getFirst(name);
     }
 
     public List<GameObject> getGameObjectsByName(String name) {
-        List<GameObject> gameObjects = new ArrayList<>();
-        for (var gameObject : this.gameObjects) {
-            if (gameObject.getName().equals(name)) {
-                gameObjects.add(gameObject);
-            }
-        }
-        return gameObjects;
+        return gameObjectsByName.get(name);
     }
 
     public GameObject getGameObjectByTag(String tag) {
-        for (var gameObject : gameObjects) {
-            if (gameObject.getTags().contains(tag)) {
-                return gameObject;
-            }
-        }
-        return null;
+        return gameObjectsByTag.getFirst(tag);
     }
 
     public List<GameObject> getGameObjectsByTag(String tag) {
-        List<GameObject> gameObjects = new ArrayList<>();
-        for (var gameObject : this.gameObjects) {
-            if (gameObject.getTags().contains(tag)) {
-                gameObjects.add(gameObject);
-            }
-        }
-        return gameObjects;
+        return gameObjectsByTag.get(tag);
     }
 
     public <T> T getGameObjectByType(Class<T> componentClass) {
-        for (var gameObject : gameObjects) {
-            var component = gameObject.getComponent(componentClass);
-            if (component != null) {
-                return component;
-            }
-        }
-        return null;
+        var gameObject = gameObjectsByType.getFirst(componentClass);
+        return (gameObject == null ? null : gameObject.getComponent(componentClass));
     }
 
     public <T> List<T> getGameObjectsByType(Class<T> componentClass) {
-        List<T> gameObjects = new ArrayList<>();
-        for (var gameObject : this.gameObjects) {
-            var component = gameObject.getComponent(componentClass);
-            if (component != null) {
-                gameObjects.add(component);
-            }
+        return gameObjectsByType.getComponents(componentClass, componentClass);
+    }
+
+    public void visitGameObjectsInBounds(Bounds bounds, Consumer<GameObject> visitor) {
+        spatialGrid.visit(bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight(), -1, visitor);
+    }
+
+    public void visitGameObjectsAt(Vector2Base point, Consumer<GameObject> visitor) {
+        spatialGrid.visit(point.getX(), point.getY(), 0, 0, -1, visitor);
+    }
+
+    public void visitGameObjectsInRadius(Vector2Base center, float radius, Consumer<GameObject> visitor) {
+        var clampedRadius = Math.max(0, radius);
+        spatialGrid.visit(center.getX() - clampedRadius, center.getY() - clampedRadius, clampedRadius * 2, clampedRadius * 2, clampedRadius, visitor);
+    }
+
+    public float getSpatialCellSize() {
+        return spatialGrid.getCellSize();
+    }
+
+    public void setSpatialCellSize(float spatialCellSize) {
+        if (spatialCellSize <= 0) {
+            throw new IllegalArgumentException("Spatial cell size must be greater than zero");
+        }
+        spatialGrid = new SpatialGrid(spatialCellSize);
+        for (var gameObject : gameObjects) {
+            spatialGrid.insert(gameObject);
         }
-        return gameObjects;
     }
 
     public void addGameObject(GameObject gameObject) {
-        if (gameObjects.contains(gameObject)) {
+        if (ParallelUpdate.defer(() -> addGameObject(gameObject))) {
+            return;
+        }
+        if (gameObject.getScene() == this) {
             return;
         }
         if (!initialized) {
-            gameObjects.add(gameObject);
+            insertGameObject(gameObject);
             gameObject.start();
             return;
         }
@@ -101,21 +119,38 @@ public abstract class Scene implements Iterable<GameObject> {
     }
 
     public void addGameObjects(Collection<GameObject> gameObjects) {
+        var pendingGameObjects = List.copyOf(gameObjects);
+        if (ParallelUpdate.defer(() -> addGameObjects(pendingGameObjects))) {
+            return;
+        }
         if (initialized) {
             gameObjectsToAdd.addAll(gameObjects);
             cleaned = false;
             return;
         }
-        this.gameObjects.addAll(gameObjects);
+        for (var gameObject : gameObjects) {
+            insertGameObject(gameObject);
+        }
         for (var gameObject : gameObjects) {
             gameObject.start();
         }
     }
 
     public void removeGameObject(GameObject gameObject) {
+        if (ParallelUpdate.defer(() -> removeGameObject(gameObject))) {
+            return;
+        }
         if (!initialized) {
-            gameObjects.remove(gameObject);
+            var removed = gameObject.getScene() == this;
+            if (removed) {
+                unindexGameObject(gameObject);
+                gameObject.setScene(null);
+                removeStaleGameObjects();
+            }
             gameObject.destroy();
+            if (removed) {
+                releaseGameObject(gameObject);
+            }
             return;
         }
         gameObjectsToRemove.add(gameObject);
@@ -128,15 +163,54 @@ public abstract class Scene implements Iterable<GameObject> {
         }
     }
 
+    public List<RenderLayer> getRenderLayers() {
+        return Collections.unmodifiableList(renderLayers);
+    }
+
+    public void addRenderLayer(RenderLayer renderLayer) {
+        if (ParallelUpdate.defer(() -> addRenderLayer(renderLayer))) {
+            return;
+        }
+        if (!renderLayers.contains(Objects.requireNonNull(renderLayer))) {
+            renderLayers.add(renderLayer);
+        }
+    }
+
+    public void removeRenderLayer(RenderLayer renderLayer) {
+        if (ParallelUpdate.defer(() -> removeRenderLayer(renderLayer))) {
+            return;
+        }
+        if (renderLayers.remove(renderLayer)) {
+            renderLayer.release();
+        }
+    }
+
     public void updateState() {
         clean();
-        Collections.sort(gameObjects);
+        sort();
+        updateParallelComponents();
+        entities.update();
+        var renderer = Game.getRenderer();
         for (var gameObject : gameObjects) {
+            renderer.setLayer(gameObject.getZIndex());
+            if (!renderLayers.isEmpty()) {
+                renderer.setRenderLayer(getStaticRenderLayer(gameObject));
+            }
             gameObject.update();
         }
+        renderer.setLayer(Integer.MAX_VALUE);
+        renderer.setRenderLayer(null);
         physics.update();
     }
 
+    public float getLoadingProgress() {
+        return loadingProgress;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
     public Camera getCamera() {
         return camera;
     }
@@ -145,10 +219,44 @@ public abstract class Scene implements Iterable<GameObject> {
         return physics;
     }
 
+    public Entities getEntities() {
+        return entities;
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public EventBus getEvents() {
+        return events;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    protected final void setLoadingProgress(float loadingProgress) {
+        this.loadingProgress = Math.max(0, Math.min(1, loadingProgress));
+    }
+
+    void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    void prepare() {
+        if (loaded) {
+            return;
+        }
+        load();
+        loadingProgress = 1;
+        loaded = true;
+    }
+
     void start() {
         if (initialized) {
             return;
         }
+        prepare();
         initialize();
         initialized = true;
     }
@@ -157,6 +265,55 @@ public abstract class Scene implements Iterable<GameObject> {
         return initialized;
     }
 
+    void onZIndexChanged() {
+        if (ParallelUpdate.defer(this::onZIndexChanged)) {
+            return;
+        }
+        sorted = false;
+    }
+
+    void onTagAdded(GameObject gameObject, String tag) {
+        if (ParallelUpdate.defer(() -> onTagAdded(gameObject, tag))) {
+            return;
+        }
+        gameObjectsByTag.add(tag, gameObject);
+    }
+
+    void onTagRemoved(GameObject gameObject, String tag) {
+        if (ParallelUpdate.defer(() -> onTagRemoved(gameObject, tag))) {
+            return;
+        }
+        gameObjectsByTag.remove(tag, gameObject);
+    }
+
+    void onBoundsChanged(GameObject gameObject) {
+        if (ParallelUpdate.defer(() -> onBoundsChanged(gameObject))) {
+            return;
+        }
+        spatialGrid.update(gameObject);
+        for (var renderLayer : renderLayers) {
+            if (renderLayer.isStatic() && renderLayer.contains(gameObject)) {
+                renderLayer.invalidate();
+            }
+        }
+    }
+
+    void onComponentAdded(GameObject gameObject, Component component) {
+        for (var type : ComponentType.of(component.getClass()).getTypes()) {
+            if (gameObject.getComponent(type) == component) {
+                gameObjectsByType.add(type, gameObject);
+            }
+        }
+    }
+
+    void onComponentRemoved(GameObject gameObject, Component component) {
+        for (var type : ComponentType.of(component.getClass()).getTypes()) {
+            if (gameObject.getComponent(type) == null) {
+                gameObjectsByType.remove(type, gameObject);
+            }
+        }
+    }
+
     private void clean() {
         if (cleaned) {
             return;
@@ -168,21 +325,124 @@ public abstract class Scene implements Iterable<GameObject> {
         } while (!cleaned);
     }
 
+    private void sort() {
+        if (sorted) {
+            return;
+        }
+        gameObjects.sort(null);
+        for (var i = 0; i < gameObjects.size(); i++) {
+            gameObjects.get(i).setSceneOrder(i);
+        }
+        nextSceneOrder = gameObjects.size();
+        sorted = true;
+    }
+
+    private void updateParallelComponents() {
+        for (var gameObject : gameObjects) {
+            gameObject.updateSleeping();
+            if (gameObject.isParallelUpdateDue()) {
+                parallelComponents.addAll(gameObject.getParallelComponents());
+            }
+        }
+        if (parallelComponents.isEmpty()) {
+            return;
+        }
+        try {
+            ParallelUpdate.run(parallelComponents);
+        } finally {
+            parallelComponents.clear();
+        }
+    }
+
+    private RenderLayer getStaticRenderLayer(GameObject gameObject) {
+        for (var renderLayer : renderLayers) {
+            if (renderLayer.isStatic() && renderLayer.contains(gameObject)) {
+                return renderLayer;
+            }
+        }
+        return null;
+    }
+
+    private void insertGameObject(GameObject gameObject) {
+        if (gameObject.getScene() == this) {
+            return;
+        }
+        if (!gameObjects.isEmpty() && gameObject.getZIndex() < gameObjects.getLast().getZIndex()) {
+            sorted = false;
+        }
+        gameObjects.add(gameObject);
+        gameObject.setSceneOrder(nextSceneOrder++);
+        gameObject.setScene(this);
+        indexGameObject(gameObject);
+    }
+
+    private void indexGameObject(GameObject gameObject) {
+        spatialGrid.insert(gameObject);
+        gameObjectsByName.add(gameObject.getName(), gameObject);
+        for (var tag : gameObject.getTags()) {
+            gameObjectsByTag.add(tag, gameObject);
+        }
+        for (var component : gameObject.getComponents()) {
+            onComponentAdded(gameObject, component);
+        }
+    }
+
+    private void unindexGameObject(GameObject gameObject) {
+        spatialGrid.remove(gameObject);
+        gameObjectsByName.markStale(gameObject.getName());
+        for (var tag : gameObject.getTags()) {
+            gameObjectsByTag.markStale(tag);
+        }
+        for (var component : gameObject.getComponents()) {
+            for (var type : ComponentType.of(component.getClass()).getTypes()) {
+                gameObjectsByType.markStale(type);
+            }
+        }
+    }
+
+    private void removeStaleGameObjects() {
+        Predicate<GameObject> stale = gameObject -> gameObject.getScene() != this;
+        gameObjects.removeIf(stale);
+        gameObjectsByName.removeStale(stale);
+        gameObjectsByTag.removeStale(stale);
+        gameObjectsByType.removeStale(stale);
+    }
+
     private void addPendingGameObjects() {
         var gameObjectsToAdd = new ArrayList<>(this.gameObjectsToAdd);
-        gameObjects.addAll(gameObjectsToAdd);
+        for (var gameObject : gameObjectsToAdd) {
+            insertGameObject(gameObject);
+        }
         for (var gameObject : gameObjectsToAdd) {
             gameObject.start();
         }
-        this.gameObjectsToAdd.removeAll(gameObjectsToAdd);
+        this.gameObjectsToAdd.subList(0, gameObjectsToAdd.size()).clear();
     }
 
     private void removePendingGameObjects() {
         var gameObjectsToRemove = new ArrayList<>(this.gameObjectsToRemove);
-        gameObjects.removeAll(gameObjectsToRemove);
+        var removedGameObjects = new ArrayList<GameObject>();
+        for (var gameObject : gameObjectsToRemove) {
+            if (gameObject.getScene() == this) {
+                unindexGameObject(gameObject);
+                gameObject.setScene(null);
+                removedGameObjects.add(gameObject);
+            }
+        }
+        removeStaleGameObjects();
         for (var gameObject : gameObjectsToRemove) {
             gameObject.destroy();
         }
-        this.gameObjectsToRemove.removeAll(gameObjectsToRemove);
+        for (var gameObject : removedGameObjects) {
+            releaseGameObject(gameObject);
+        }
+        this.gameObjectsToRemove.subList(0, gameObjectsToRemove.size()).clear();
+    }
+
+    private void releaseGameObject(GameObject gameObject) {
+        var pool = gameObject.getPool();
+        if (pool != null && gameObject.getScene() == null) {
+            pool.release(gameObject);
+        }
     }
 }
\ No newline at end of file
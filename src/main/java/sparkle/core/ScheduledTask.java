@@ -0,0 +1,102 @@
+package sparkle.core;
+
+public final class ScheduledTask {
+    private final Runnable runnable;
+    private final Coroutine coroutine;
+    private final long period;
+    private Scheduler scheduler;
+    private ScheduledTask previous;
+    private ScheduledTask next;
+    private long deadline;
+    private int level;
+    private int slot;
+    private boolean cancelled;
+    private boolean done;
+
+    ScheduledTask(Runnable runnable, Coroutine coroutine, long period) {
+        this.runnable = runnable;
+        this.coroutine = coroutine;
+        this.period = period;
+    }
+
+    public void cancel() {
+        if (done) {
+            return;
+        }
+        cancelled = true;
+        done = true;
+        if (scheduler != null) {
+            scheduler.unlink(this);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    void setScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    ScheduledTask getPrevious() {
+        return previous;
+    }
+
+    void setPrevious(ScheduledTask previous) {
+        this.previous = previous;
+    }
+
+    ScheduledTask getNext() {
+        return next;
+    }
+
+    void setNext(ScheduledTask next) {
+        this.next = next;
+    }
+
+    long getDeadline() {
+        return deadline;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    int getLevel() {
+        return level;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setPosition(int level, int slot) {
+        this.level = level;
+        this.slot = slot;
+    }
+
+    boolean isCoroutine() {
+        return coroutine != null;
+    }
+
+    long run() {
+        if (coroutine != null) {
+            var wait = coroutine.resume();
+            return (wait < 0 ? -1 : Scheduler.toTicks(wait));
+        }
+        runnable.run();
+        return (period > 0 ? period : -1);
+    }
+
+    void finish() {
+        done = true;
+    }
+}
\ No newline at end of file
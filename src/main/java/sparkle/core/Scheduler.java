@@ -0,0 +1,178 @@
+package sparkle.core;
+
+import java.util.Objects;
+
+public final class Scheduler {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final float TICKS_PER_SECOND = 1000;
+    private final ScheduledTask[][] heads = new ScheduledTask[LEVELS][SLOTS];
+    private final ScheduledTask[][] tails = new ScheduledTask[LEVELS][SLOTS];
+    private double time;
+    private long currentTick;
+    private long targetTick;
+    private int size;
+    private boolean advancing;
+
+    public ScheduledTask schedule(Runnable runnable, float delay) {
+        var task = new ScheduledTask(Objects.requireNonNull(runnable), null, 0);
+        insert(task, getDeadline(toTicks(delay)));
+        return task;
+    }
+
+    public ScheduledTask scheduleRepeating(Runnable runnable, float delay, float period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be greater than zero");
+        }
+        var task = new ScheduledTask(Objects.requireNonNull(runnable), null, Math.max(1, toTicks(period)));
+        insert(task, getDeadline(toTicks(delay)));
+        return task;
+    }
+
+    public ScheduledTask startCoroutine(Coroutine coroutine) {
+        var task = new ScheduledTask(null, Objects.requireNonNull(coroutine), 0);
+        var wait = task.run();
+        if (wait < 0) {
+            task.finish();
+            return task;
+        }
+        insert(task, getDeadline(wait));
+        return task;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (var level = 0; level < LEVELS; level++) {
+            for (var slot = 0; slot < SLOTS; slot++) {
+                while (heads[level][slot] != null) {
+                    heads[level][slot].cancel();
+                }
+            }
+        }
+    }
+
+    static long toTicks(float seconds) {
+        return Math.max(0, Math.round(seconds * (double) TICKS_PER_SECOND));
+    }
+
+    void update() {
+        time += Time.getDelta();
+        targetTick = (long) (time * TICKS_PER_SECOND);
+        advancing = true;
+        try {
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                fire((int) (currentTick & SLOT_MASK));
+            }
+        } finally {
+            advancing = false;
+        }
+    }
+
+    void unlink(ScheduledTask task) {
+        if (task.getScheduler() != this) {
+            return;
+        }
+        var level = task.getLevel();
+        var slot = task.getSlot();
+        var previous = task.getPrevious();
+        var next = task.getNext();
+        if (previous == null) {
+            heads[level][slot] = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tails[level][slot] = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        task.setPrevious(null);
+        task.setNext(null);
+        task.setScheduler(null);
+        size--;
+    }
+
+    private long getDeadline(long delay) {
+        var minimum = (advancing ? targetTick : currentTick) + 1;
+        return Math.max(minimum, currentTick + delay);
+    }
+
+    private void insert(ScheduledTask task, long deadline) {
+        var level = getLevel(deadline);
+        var slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        var tail = tails[level][slot];
+        task.setDeadline(deadline);
+        task.setPosition(level, slot);
+        task.setPrevious(tail);
+        task.setNext(null);
+        if (tail == null) {
+            heads[level][slot] = task;
+        } else {
+            tail.setNext(task);
+        }
+        tails[level][slot] = task;
+        task.setScheduler(this);
+        size++;
+    }
+
+    private int getLevel(long deadline) {
+        var distance = deadline ^ currentTick;
+        for (var level = 0; level < LEVELS - 1; level++) {
+            if (distance >>> (SLOT_BITS * (level + 1)) == 0) {
+                return level;
+            }
+        }
+        return LEVELS - 1;
+    }
+
+    private void cascade() {
+        var topLevel = 0;
+        while (topLevel < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (var level = topLevel; level > 0; level--) {
+            var task = detach(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            while (task != null) {
+                var next = task.getNext();
+                insert(task, task.getDeadline());
+                task = next;
+            }
+        }
+    }
+
+    private void fire(int slot) {
+        var task = detach(0, slot);
+        while (task != null) {
+            var next = task.getNext();
+            task.setNext(null);
+            if (!task.isDone()) {
+                var wait = task.run();
+                if (wait < 0 || task.isDone()) {
+                    task.finish();
+                } else {
+                    insert(task, (task.isCoroutine() ? getDeadline(wait) : Math.max(currentTick + 1, task.getDeadline() + wait)));
+                }
+            }
+            task = next;
+        }
+    }
+
+    private ScheduledTask detach(int level, int slot) {
+        var head = heads[level][slot];
+        heads[level][slot] = null;
+        tails[level][slot] = null;
+        for (var task = head; task != null; task = task.getNext()) {
+            task.setPrevious(null);
+            task.setScheduler(null);
+            size--;
+        }
+        return head;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package sparkle.core;
+
+import sparkle.paints.Paint;
+
+import java.awt.*;
+
+final class ScreenFill extends Drawable {
+    private Paint paint;
+
+    ScreenFill() {
+        super.setRenderingMode(RenderingMode.SCREEN);
+    }
+
+    void setPaint(Paint paint) {
+        this.paint = paint;
+    }
+
+    @Override
+    public boolean isOutsideScreen() {
+        return false;
+    }
+
+    @Override
+    protected Object getRenderState() {
+        return paint;
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        super.setScreenBounds(0, 0, Game.getWidth(), Game.getHeight());
+        return true;
+    }
+
+    @Override
+    protected void render(Graphics2D graphics) {
+        graphics.setPaint(paint.getPaint());
+        graphics.fillRect(0, 0, Game.getWidth(), Game.getHeight());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+package sparkle.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Consumer;
+
+final class SpatialGrid {
+    private static final int MAX_CELLS_PER_OBJECT = 256;
+    private final float cellSize;
+    private final Cell oversized = new Cell();
+    private final Entry range = new Entry();
+    private long[] keys = new long[64];
+    private Cell[] cells = new Cell[64];
+    private int cellCount;
+    private int stamp;
+    private boolean visiting;
+
+    SpatialGrid(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    float getCellSize() {
+        return cellSize;
+    }
+
+    void insert(GameObject gameObject) {
+        var entry = new Entry();
+        gameObject.setSpatialEntry(entry);
+        computeRange(gameObject, entry);
+        addToCells(gameObject, entry);
+    }
+
+    void update(GameObject gameObject) {
+        var entry = gameObject.getSpatialEntry();
+        if (entry == null) {
+            return;
+        }
+        computeRange(gameObject, range);
+        if (entry.hasSameRange(range)) {
+            return;
+        }
+        removeFromCells(gameObject, entry);
+        entry.set(range.minX, range.minY, range.maxX, range.maxY, range.oversized);
+        addToCells(gameObject, entry);
+    }
+
+    void remove(GameObject gameObject) {
+        var entry = gameObject.getSpatialEntry();
+        if (entry == null) {
+            return;
+        }
+        removeFromCells(gameObject, entry);
+        gameObject.setSpatialEntry(null);
+    }
+
+    void visit(float x, float y, float width, float height, float radius, Consumer<GameObject> visitor) {
+        var visited = (visiting ? Collections.newSetFromMap(new IdentityHashMap<GameObject, Boolean>()) : null);
+        var currentStamp = (visiting ? 0 : ++stamp);
+        var wasVisiting = visiting;
+        visiting = true;
+        try {
+            var minX = toCell(x);
+            var minY = toCell(y);
+            var maxX = toCell(x + width);
+            var maxY = toCell(y + height);
+            if (((long) maxX - minX + 1) * ((long) maxY - minY + 1) > cellCount) {
+                var keys = this.keys;
+                var cells = this.cells;
+                for (var i = 0; i < cells.length; i++) {
+                    var cellX = (int) (keys[i] >> 32);
+                    var cellY = (int) keys[i];
+                    if (cells[i] != null && cellX >= minX && cellX <= maxX && cellY >= minY && cellY <= maxY) {
+                        visit(cells[i], currentStamp, visited, x, y, width, height, radius, visitor);
+                    }
+                }
+            } else {
+                for (var cellX = minX; cellX <= maxX; cellX++) {
+                    for (var cellY = minY; cellY <= maxY; cellY++) {
+                        var cell = getCell(cellX, cellY, false);
+                        if (cell != null) {
+                            visit(cell, currentStamp, visited, x, y, width, height, radius, visitor);
+                        }
+                    }
+                }
+            }
+            visit(oversized, currentStamp, visited, x, y, width, height, radius, visitor);
+        } finally {
+            visiting = wasVisiting;
+        }
+    }
+
+    private void visit(Cell cell, int currentStamp, Set<GameObject> visited, float x, float y, float width, float height, float radius, Consumer<GameObject> visitor) {
+        for (var i = 0; i < cell.size; i++) {
+            var gameObject = cell.gameObjects[i];
+            var entry = gameObject.getSpatialEntry();
+            if (entry == null || (visited == null ? entry.stamp == currentStamp : !visited.add(gameObject))) {
+                continue;
+            }
+            if (visited == null) {
+                entry.stamp = currentStamp;
+            }
+            if (matches(gameObject, x, y, width, height, radius)) {
+                visitor.accept(gameObject);
+            }
+        }
+    }
+
+    private boolean matches(GameObject gameObject, float x, float y, float width, float height, float radius) {
+        var position = gameObject.getPosition();
+        var size = gameObject.getSize();
+        var objectX = position.getX();
+        var objectY = position.getY();
+        var objectWidth = size.getX();
+        var objectHeight = size.getY();
+        if (radius < 0) {
+            return objectX < x + width && objectX + objectWidth > x && objectY < y + height && objectY + objectHeight > y;
+        }
+        var centerX = x + radius;
+        var centerY = y + radius;
+        var deltaX = centerX - Math.max(objectX, Math.min(centerX, objectX + objectWidth));
+        var deltaY = centerY - Math.max(objectY, Math.min(centerY, objectY + objectHeight));
+        return deltaX * deltaX + deltaY * deltaY <= radius * radius;
+    }
+
+    private void computeRange(GameObject gameObject, Entry entry) {
+        var position = gameObject.getPosition();
+        var size = gameObject.getSize();
+        var minX = toCell(position.getX());
+        var minY = toCell(position.getY());
+        var maxX = toCell(position.getX() + Math.max(0, size.getX()));
+        var maxY = toCell(position.getY() + Math.max(0, size.getY()));
+        var oversized = (long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_CELLS_PER_OBJECT;
+        entry.set(minX, minY, maxX, maxY, oversized);
+    }
+
+    private void addToCells(GameObject gameObject, Entry entry) {
+        if (entry.oversized) {
+            oversized.add(gameObject);
+            return;
+        }
+        for (var cellX = entry.minX; cellX <= entry.maxX; cellX++) {
+            for (var cellY = entry.minY; cellY <= entry.maxY; cellY++) {
+                getCell(cellX, cellY, true).add(gameObject);
+            }
+        }
+    }
+
+    private void removeFromCells(GameObject gameObject, Entry entry) {
+        if (entry.oversized) {
+            oversized.remove(gameObject);
+            return;
+        }
+        for (var cellX = entry.minX; cellX <= entry.maxX; cellX++) {
+            for (var cellY = entry.minY; cellY <= entry.maxY; cellY++) {
+                var cell = getCell(cellX, cellY, false);
+                if (cell != null) {
+                    cell.remove(gameObject);
+                }
+            }
+        }
+    }
+
+    private int toCell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private Cell getCell(int cellX, int cellY, boolean create) {
+        var key = ((long) cellX << 32) | (cellY & 0xffffffffL);
+        var mask = keys.length - 1;
+        var index = hash(key) & mask;
+        while (cells[index] != null) {
+            if (keys[index] == key) {
+                return cells[index];
+            }
+            index = (index + 1) & mask;
+        }
+        if (!create) {
+            return null;
+        }
+        if ((cellCount + 1) * 2 > keys.length) {
+            resize();
+            return getCell(cellX, cellY, true);
+        }
+        var cell = new Cell();
+        keys[index] = key;
+        cells[index] = cell;
+        cellCount++;
+        return cell;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldCells = cells;
+        keys = new long[oldKeys.length * 2];
+        cells = new Cell[oldCells.length * 2];
+        var mask = keys.length - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldCells[i] == null) {
+                continue;
+            }
+            var index = hash(oldKeys[i]) & mask;
+            while (cells[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            cells[index] = oldCells[i];
+        }
+    }
+
+    private static int hash(long key) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    static final class Entry {
+        private int minX;
+        private int minY;
+        private int maxX;
+        private int maxY;
+        private int stamp;
+    private boolean visiting;
+        private boolean oversized;
+
+        private void set(int minX, int minY, int maxX, int maxY, boolean oversized) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.oversized = oversized;
+        }
+
+        private boolean hasSameRange(Entry entry) {
+            return minX == entry.minX && minY == entry.minY && maxX == entry.maxX && maxY == entry.maxY && oversized == entry.oversized;
+        }
+    }
+
+    private static final class Cell {
+        private GameObject[] gameObjects = new GameObject[4];
+        private int size;
+
+        private void add(GameObject gameObject) {
+            if (size == gameObjects.length) {
+                gameObjects = Arrays.copyOf(gameObjects, size * 2);
+            }
+            gameObjects[size++] = gameObject;
+        }
+
+        private void remove(GameObject gameObject) {
+            for (var i = 0; i < size; i++) {
+                if (gameObjects[i] == gameObject) {
+                    gameObjects[i] = gameObjects[--size];
+                    gameObjects[size] = null;
+                    return;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
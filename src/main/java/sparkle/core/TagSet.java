@@ -0,0 +1,78 @@
+package sparkle.core;
+
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+final class TagSet extends AbstractSet<String> {
+    private final Set<String> tags = new HashSet<>();
+    private final GameObject gameObject;
+
+    TagSet(GameObject gameObject) {
+        this.gameObject = gameObject;
+    }
+
+    @Override
+    public boolean add(String tag) {
+        if (!tags.add(tag)) {
+            return false;
+        }
+        var scene = gameObject.getScene();
+        if (scene != null) {
+            scene.onTagAdded(gameObject, tag);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object tag) {
+        if (!tags.remove(tag)) {
+            return false;
+        }
+        onTagRemoved((String) tag);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object tag) {
+        return tags.contains(tag);
+    }
+
+    @Override
+    public int size() {
+        return tags.size();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        var iterator = tags.iterator();
+        return new Iterator<>() {
+            private String current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                onTagRemoved(current);
+            }
+        };
+    }
+
+    private void onTagRemoved(String tag) {
+        var scene = gameObject.getScene();
+        if (scene != null) {
+            scene.onTagRemoved(gameObject, tag);
+        }
+    }
+}
\ No newline at end of file
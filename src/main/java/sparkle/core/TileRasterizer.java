@@ -0,0 +1,160 @@
+package sparkle.core;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+final class TileRasterizer {
+    private static final int TILE_SIZE = 128;
+    private Tile[] tiles;
+    private int width;
+    private int height;
+
+    TileRasterizer() {
+        tiles = new Tile[0];
+    }
+
+    void rasterize(Graphics2D graphics, RenderQueue.Command[] commands, int size, DirtyRegion dirtyRegion) {
+        updateTiles();
+        var renderingHints = graphics.getRenderingHints();
+        ForkJoinPool.commonPool().invoke(new Stage(tiles, commands, size, renderingHints, dirtyRegion));
+        for (var tile : tiles) {
+            if (tile.used) {
+                graphics.drawImage(tile.image, tile.x, tile.y, null);
+            }
+        }
+    }
+
+    private void updateTiles() {
+        if (width == Game.getWidth() && height == Game.getHeight()) {
+            return;
+        }
+        width = Game.getWidth();
+        height = Game.getHeight();
+        var tiles = new ArrayList<Tile>();
+        for (var y = 0; y < height; y += TILE_SIZE) {
+            for (var x = 0; x < width; x += TILE_SIZE) {
+                tiles.add(new Tile(x, y, Math.min(TILE_SIZE, width - x), Math.min(TILE_SIZE, height - y)));
+            }
+        }
+        this.tiles = tiles.toArray(new Tile[0]);
+    }
+
+    private static final class Stage extends RecursiveAction {
+        private final Tile[] tiles;
+        private final RenderQueue.Command[] commands;
+        private final int size;
+        private final RenderingHints renderingHints;
+        private final DirtyRegion dirtyRegion;
+
+        private Stage(Tile[] tiles, RenderQueue.Command[] commands, int size, RenderingHints renderingHints, DirtyRegion dirtyRegion) {
+            this.tiles = tiles;
+            this.commands = commands;
+            this.size = size;
+            this.renderingHints = renderingHints;
+            this.dirtyRegion = dirtyRegion;
+        }
+
+        @Override
+        protected void compute() {
+            var tasks = new ArrayList<RecursiveAction>(tiles.length);
+            for (var tile : tiles) {
+                tasks.add(new TileTask(tile, commands, size, renderingHints, dirtyRegion));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private static final class TileTask extends RecursiveAction {
+        private final Tile tile;
+        private final RenderQueue.Command[] commands;
+        private final int size;
+        private final RenderingHints renderingHints;
+        private final DirtyRegion dirtyRegion;
+
+        private TileTask(Tile tile, RenderQueue.Command[] commands, int size, RenderingHints renderingHints, DirtyRegion dirtyRegion) {
+            this.tile = tile;
+            this.commands = commands;
+            this.size = size;
+            this.renderingHints = renderingHints;
+            this.dirtyRegion = dirtyRegion;
+        }
+
+        @Override
+        protected void compute() {
+            tile.render(commands, size, renderingHints, dirtyRegion);
+        }
+    }
+
+    private static final class Tile {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final BufferedImage image;
+        private boolean used;
+
+        private Tile(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        private void render(RenderQueue.Command[] commands, int size, RenderingHints renderingHints, DirtyRegion dirtyRegion) {
+            if (!used && dirtyRegion != null && !dirtyRegion.intersects(x, y, width, height)) {
+                return;
+            }
+            var graphics = image.createGraphics();
+            try {
+                if (used) {
+                    graphics.setComposite(AlphaComposite.Clear);
+                    graphics.fillRect(0, 0, width, height);
+                    graphics.setComposite(AlphaComposite.SrcOver);
+                    used = false;
+                }
+                var clip = getClip(dirtyRegion);
+                if (clip == null) {
+                    return;
+                }
+                graphics.setRenderingHints(renderingHints);
+                graphics.translate(-x, -y);
+                graphics.clipRect(clip.x, clip.y, clip.width, clip.height);
+                Interpolation interpolation = null;
+                for (var i = 0; i < size; i++) {
+                    var command = commands[i];
+                    if (!command.intersects(clip.x, clip.y, clip.width, clip.height)) {
+                        continue;
+                    }
+                    if (command.getInterpolation() != interpolation) {
+                        interpolation = command.getInterpolation();
+                        graphics.setRenderingHint(Interpolation.key, interpolation.value);
+                    }
+                    command.getDrawable().render(graphics);
+                    used = true;
+                }
+            } finally {
+                graphics.dispose();
+            }
+        }
+
+        private Rectangle getClip(DirtyRegion dirtyRegion) {
+            var tile = new Rectangle(x, y, width, height);
+            if (dirtyRegion == null) {
+                return tile;
+            }
+            Rectangle clip = null;
+            for (var i = 0; i < dirtyRegion.size(); i++) {
+                var intersection = tile.intersection(new Rectangle(dirtyRegion.getX(i), dirtyRegion.getY(i), dirtyRegion.getWidth(i), dirtyRegion.getHeight(i)));
+                if (intersection.isEmpty()) {
+                    continue;
+                }
+                clip = (clip == null ? intersection : clip.union(intersection));
+            }
+            return clip;
+        }
+    }
+}
\ No newline at end of file
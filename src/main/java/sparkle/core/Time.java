@@ -1,16 +1,40 @@
 package sparkle.core;
 
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
 public final class Time {
     private static final int SLEEP_PRECISION = 2_000_000;
+    private static final int MIN_SPIN_THRESHOLD = 50_000;
+    private static final int MAX_SPIN_THRESHOLD = 2_000_000;
+    private static final int MAX_SPIN_FRACTION = 4;
+    private static final int TIMER_SLACK_SAMPLES = 32;
+    private static final double STATISTICS_SMOOTHING = 0.1;
     private static Time instance = null;
     private final long startTime;
+    private final long[] timerSlackSamples;
+    private final long[] sortedTimerSlackSamples;
     private long lastFrameTime;
     private long frameCount;
     private float delta;
+    private float localDelta;
+    private float localFixedDelta;
     private float averageFPS;
+    private int timerSlackSampleCount;
+    private long timerSlack;
+    private long spinThreshold;
+    private double frameJitter;
+    private double averageOversleep;
+    private long maxOversleep;
 
     private Time() {
         startTime = System.nanoTime();
+        timerSlackSamples = new long[TIMER_SLACK_SAMPLES];
+        sortedTimerSlackSamples = new long[TIMER_SLACK_SAMPLES];
+        timerSlack = 1_000_000;
+        spinThreshold = 1_000_000;
+        localDelta = -1;
+        localFixedDelta = -1;
     }
 
     public static long getTicks() {
@@ -18,11 +42,17 @@ public final class Time {
     }
 
     public static float getDelta() {
-        return getInstance().delta;
+        var instance = getInstance();
+        return (instance.localDelta < 0 ? instance.delta : instance.localDelta);
     }
 
     public static float getFixedDelta() {
-        return 1 / 60f;
+        var localFixedDelta = getInstance().localFixedDelta;
+        return (localFixedDelta < 0 ? 1f / Game.getSimulationRate() : localFixedDelta);
+    }
+
+    public static float getInterpolationAlpha() {
+        return Game.getScene().getPhysics().getInterpolationAlpha();
     }
 
     public static float getAverageFPS() {
@@ -30,7 +60,36 @@ public final class Time {
     }
 
     public static float getCurrentFPS() {
-        return getDelta() == 0 ? 0 : 1 / getDelta();
+        var delta = getInstance().delta;
+        return delta == 0 ? 0 : 1 / delta;
+    }
+
+    public static float getFrameJitter() {
+        return (float) (getInstance().frameJitter / 1e9);
+    }
+
+    public static float getAverageOversleep() {
+        return (float) (getInstance().averageOversleep / 1e9);
+    }
+
+    public static float getMaxOversleep() {
+        return (float) (getInstance().maxOversleep / 1e9);
+    }
+
+    public static float getTimerSlack() {
+        return (float) (getInstance().timerSlack / 1e9);
+    }
+
+    static void setDelta(float delta) {
+        getInstance().delta = delta;
+    }
+
+    static void setLocalDelta(float localDelta) {
+        getInstance().localDelta = localDelta;
+    }
+
+    static void setLocalFixedDelta(float localFixedDelta) {
+        getInstance().localFixedDelta = localFixedDelta;
     }
 
     static Time getInstance() {
@@ -39,13 +98,29 @@ public final class Time {
     }
 
     public void update() {
+        if (Game.isHeadless()) {
+            simulate();
+            return;
+        }
         sync();
         refresh();
     }
 
+    private void simulate() {
+        var fpsTarget = Game.getFPSTarget();
+        delta = (fpsTarget.equals(FPSTarget.NO_LIMIT) ? getFixedDelta() : 1f / fpsTarget.target);
+        refreshAverageFPS();
+    }
+
     private void refresh() {
+        var frameTime = getTicks() - lastFrameTime;
+        delta = (float) (frameTime / 1e9);
+        frameJitter += STATISTICS_SMOOTHING * (Math.abs(frameTime - getTargetFrameTime()) - frameJitter);
+        refreshAverageFPS();
+    }
+
+    private void refreshAverageFPS() {
         frameCount++;
-        delta = (float) ((getTicks() - lastFrameTime) / 1e9);
         var timeInSeconds = (float) (getTicks() / 1e9);
         averageFPS = timeInSeconds == 0 ? 0 : (frameCount / timeInSeconds);
         lastFrameTime = getTicks();
@@ -56,10 +131,15 @@ public final class Time {
         var waitTime = (long) (targetFrameTime - (getTicks() - lastFrameTime));
         if (waitTime > 0 && waitTime <= targetFrameTime) {
             try {
-                sleep(waitTime);
+                if (Game.getFramePacing() == FramePacing.PARK) {
+                    park(waitTime);
+                } else {
+                    sleep(waitTime);
+                }
             } catch (InterruptedException e) {
                 throw new RuntimeException("Could not sleep current thread: " + e.getMessage(), e);
             }
+            updateOversleep((long) (getTicks() - lastFrameTime - targetFrameTime));
         }
     }
 
@@ -79,4 +159,39 @@ public final class Time {
             timeLeft = endTime - System.nanoTime();
         }
     }
-}
\ No newline at end of file
+
+    private void park(long nanoSeconds) throws InterruptedException {
+        var endTime = System.nanoTime() + nanoSeconds;
+        var timeLeft = nanoSeconds;
+        var spinThreshold = Math.min(this.spinThreshold, nanoSeconds / MAX_SPIN_FRACTION);
+        while (timeLeft > spinThreshold) {
+            var parkTime = timeLeft - spinThreshold;
+            var parkStart = System.nanoTime();
+            LockSupport.parkNanos(parkTime);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while parking");
+            }
+            updateTimerSlack(System.nanoTime() - parkStart - parkTime);
+            timeLeft = endTime - System.nanoTime();
+        }
+        while (System.nanoTime() < endTime) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void updateTimerSlack(long overshoot) {
+        timerSlackSamples[timerSlackSampleCount % TIMER_SLACK_SAMPLES] = Math.max(0, overshoot);
+        timerSlackSampleCount++;
+        var sampleCount = Math.min(timerSlackSampleCount, TIMER_SLACK_SAMPLES);
+        System.arraycopy(timerSlackSamples, 0, sortedTimerSlackSamples, 0, sampleCount);
+        Arrays.sort(sortedTimerSlackSamples, 0, sampleCount);
+        timerSlack = sortedTimerSlackSamples[sampleCount / 2];
+        spinThreshold = Math.max(MIN_SPIN_THRESHOLD, Math.min(MAX_SPIN_THRESHOLD, sortedTimerSlackSamples[sampleCount * 9 / 10]));
+    }
+
+    private void updateOversleep(long oversleep) {
+        var value = Math.max(0, oversleep);
+        averageOversleep += STATISTICS_SMOOTHING * (value - averageOversleep);
+        maxOversleep = Math.max(maxOversleep, value);
+    }
+}
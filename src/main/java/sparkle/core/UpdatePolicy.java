@@ -0,0 +1,48 @@
+package sparkle.core;
+
+public final class UpdatePolicy {
+    public static final UpdatePolicy ALWAYS = new UpdatePolicy(1, -1);
+    private final int interval;
+    private final float sleepMargin;
+
+    public UpdatePolicy(int interval, float sleepMargin) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Interval must be greater than zero");
+        }
+        this.interval = interval;
+        this.sleepMargin = (sleepMargin < 0 ? -1 : sleepMargin);
+    }
+
+    public static UpdatePolicy everyNFrames(int interval) {
+        return new UpdatePolicy(interval, -1);
+    }
+
+    public static UpdatePolicy sleepOffCamera(float sleepMargin) {
+        return new UpdatePolicy(1, Math.max(0, sleepMargin));
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public float getSleepMargin() {
+        return sleepMargin;
+    }
+
+    public boolean isSleepingOffCamera() {
+        return sleepMargin >= 0;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof UpdatePolicy updatePolicy) {
+            return interval == updatePolicy.interval && sleepMargin == updatePolicy.sleepMargin;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * interval + Float.hashCode(sleepMargin);
+    }
+}
\ No newline at end of file
@@ -48,14 +48,25 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
     protected void update() {
         var body = super.getComponent(RigidBody.class);
         if (body != null) {
-            setRotation(body.getRotation());
+            setRotation(body.getInterpolatedRotation());
         }
         super.update();
     }
 
     @Override
     public boolean isOutsideScreen() {
-        return super.isOutsideScreen(position, size, (stroke.equals(Color.TRANSPARENT) || strokeWidth == 0 ? null : strokeObject), rotation);
+        return super.isOutsideScreen(position, size, strokeWidth + 1, rotation);
+    }
+
+    @Override
+    protected Object getRenderState() {
+        return (fill.equals(Color.TRANSPARENT) ? stroke : fill);
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        super.setScreenBounds(position, size, strokeWidth + 1, rotation);
+        return true;
     }
 
     public Vector2 getPosition() {
@@ -72,6 +83,7 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
 
     public void setFill(Paint fill) {
         this.fill = Objects.requireNonNullElse(fill, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public Paint getStroke() {
@@ -80,6 +92,7 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
 
     public void setStroke(Paint stroke) {
         this.stroke = Objects.requireNonNullElse(stroke, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public StrokeType getStrokeType() {
@@ -89,6 +102,7 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
     public void setStrokeType(StrokeType strokeType) {
         this.strokeType = Objects.requireNonNullElse(strokeType, getDefaultStrokeType());
         strokeObject = this.strokeType.build(strokeWidth);
+        super.invalidate();
     }
 
     public float getRotation() {
@@ -96,6 +110,9 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
     }
 
     public void setRotation(float rotation) {
+        if (this.rotation != rotation) {
+            super.invalidate();
+        }
         this.rotation = rotation;
     }
 
@@ -106,6 +123,7 @@ public abstract sealed class BasicShape extends Drawable permits Oval, Rectangle
     public void setStrokeWidth(float strokeWidth) {
         this.strokeWidth = Math.max(0, strokeWidth);
         strokeObject = this.strokeType.build(this.strokeWidth);
+        super.invalidate();
     }
 
     public Texture toTexture() {
@@ -1,13 +1,11 @@
 package sparkle.drawables;
 
 import sparkle.core.Drawable;
-import sparkle.core.Game;
 import sparkle.math.Vector2;
 import sparkle.paints.Color;
 import sparkle.paints.Paint;
 
 import java.awt.*;
-import java.awt.geom.Line2D;
 import java.util.Objects;
 
 public final class Line extends Drawable {
@@ -38,12 +36,28 @@ public final class Line extends Drawable {
 
     @Override
     public boolean isOutsideScreen() {
-        var startX = super.getRenderingMode().getModifierX(super.getAnchor().getX() + startPosition.getX());
-        var startY = super.getRenderingMode().getModifierY(super.getAnchor().getY() + startPosition.getY());
-        var endX = super.getRenderingMode().getModifierX(super.getAnchor().getX() + endPosition.getX());
-        var endY = super.getRenderingMode().getModifierY(super.getAnchor().getY() + endPosition.getY());
-        var line = new Line2D.Float(startX, startY, endX, endY);
-        return !strokeObject.createStrokedShape(line).intersects(0, 0, Game.getWidth(), Game.getHeight());
+        var startX = super.getScreenX(startPosition.getX());
+        var startY = super.getScreenY(startPosition.getY());
+        var endX = super.getScreenX(endPosition.getX());
+        var endY = super.getScreenY(endPosition.getY());
+        var padding = strokeWidth + 1;
+        return super.isOutsideScreen(Math.min(startX, endX) - padding, Math.min(startY, endY) - padding, Math.max(startX, endX) + padding, Math.max(startY, endY) + padding);
+    }
+
+    @Override
+    protected Object getRenderState() {
+        return stroke;
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        var startX = super.getScreenX(startPosition.getX());
+        var startY = super.getScreenY(startPosition.getY());
+        var endX = super.getScreenX(endPosition.getX());
+        var endY = super.getScreenY(endPosition.getY());
+        var padding = strokeWidth + 1;
+        super.setScreenBounds(Math.min(startX, endX) - padding, Math.min(startY, endY) - padding, Math.max(startX, endX) + padding, Math.max(startY, endY) + padding);
+        return true;
     }
 
     @Override
@@ -51,10 +65,10 @@ public final class Line extends Drawable {
         if (isOutsideScreen() || stroke.equals(Color.TRANSPARENT) || strokeWidth == 0) {
             return;
         }
-        var startX = super.getRenderingMode().getModifierX(super.getAnchor().getX() + startPosition.getX());
-        var startY = super.getRenderingMode().getModifierY(super.getAnchor().getY() + startPosition.getY());
-        var endX = super.getRenderingMode().getModifierX(super.getAnchor().getX() + endPosition.getX());
-        var endY = super.getRenderingMode().getModifierY(super.getAnchor().getY() + endPosition.getY());
+        var startX = super.getScreenX(startPosition.getX());
+        var startY = super.getScreenY(startPosition.getY());
+        var endX = super.getScreenX(endPosition.getX());
+        var endY = super.getScreenY(endPosition.getY());
         graphics.setPaint(stroke.getPaint());
         graphics.setStroke(strokeObject);
         graphics.drawLine(Math.round(startX), Math.round(startY), Math.round(endX), Math.round(endY));
@@ -74,6 +88,7 @@ public final class Line extends Drawable {
 
     public void setStroke(Paint stroke) {
         this.stroke = Objects.requireNonNullElse(stroke, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public StrokeType getStrokeType() {
@@ -83,6 +98,7 @@ public final class Line extends Drawable {
     public void setStrokeType(StrokeType strokeType) {
         this.strokeType = Objects.requireNonNullElse(strokeType, StrokeType.SQUARED);
         strokeObject = this.strokeType.build(strokeWidth);
+        super.invalidate();
     }
 
     public float getStrokeWidth() {
@@ -92,5 +108,6 @@ public final class Line extends Drawable {
     public void setStrokeWidth(float strokeWidth) {
         this.strokeWidth = Math.max(0, strokeWidth);
         strokeObject = strokeType.build(this.strokeWidth);
+        super.invalidate();
     }
 }
\ No newline at end of file
@@ -30,8 +30,8 @@ public final class Oval extends BasicShape {
         if (super.isOutsideScreen() || (fillIsTransparent && strokeIsTransparent)) {
             return;
         }
-        var x = super.getRenderingMode().getModifierX(super.getAnchor().getX() + super.getPosition().getX());
-        var y = super.getRenderingMode().getModifierY(super.getAnchor().getY() + super.getPosition().getY());
+        var x = super.getScreenX(super.getPosition().getX());
+        var y = super.getScreenY(super.getPosition().getY());
         var oldTransform = graphics.getTransform();
         if (super.getRotation() != 0) {
             graphics.rotate(Math.toRadians(super.getRotation()), x + (super.getSize().getX() / 2.0), y + super.getSize().getY() / 2.0);
@@ -40,7 +40,18 @@ public final class Polygon extends Drawable {
 
     @Override
     public boolean isOutsideScreen() {
-        return super.isOutsideScreen(points, (stroke.equals(Color.TRANSPARENT) || strokeWidth == 0 ? null : strokeObject));
+        return super.isOutsideScreen(points, strokeWidth * 5 + 1);
+    }
+
+    @Override
+    protected Object getRenderState() {
+        return (fill.equals(Color.TRANSPARENT) ? stroke : fill);
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        super.setScreenBounds(points, strokeWidth * 5 + 1);
+        return true;
     }
 
     @Override
@@ -69,6 +80,7 @@ public final class Polygon extends Drawable {
 
     public void setPoints(Vector2[] points) {
         this.points = (points == null ? new Vector2[]{} : copyPoints(points));
+        super.invalidate();
     }
 
     public Paint getFill() {
@@ -77,6 +89,7 @@ public final class Polygon extends Drawable {
 
     public void setFill(Paint fill) {
         this.fill = Objects.requireNonNullElse(fill, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public Paint getStroke() {
@@ -85,6 +98,7 @@ public final class Polygon extends Drawable {
 
     public void setStroke(Paint stroke) {
         this.stroke = Objects.requireNonNullElse(stroke, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public StrokeType getStrokeType() {
@@ -94,6 +108,7 @@ public final class Polygon extends Drawable {
     public void setStrokeType(StrokeType strokeType) {
         this.strokeType = Objects.requireNonNullElse(strokeType, StrokeType.SQUARED);
         strokeObject = this.strokeType.build(strokeWidth);
+        super.invalidate();
     }
 
     public float getStrokeWidth() {
@@ -103,6 +118,7 @@ public final class Polygon extends Drawable {
     public void setStrokeWidth(float strokeWidth) {
         this.strokeWidth = Math.max(0, strokeWidth);
         strokeObject = strokeType.build(this.strokeWidth);
+        super.invalidate();
     }
 
     private Vector2[] copyPoints(Vector2[] points) {
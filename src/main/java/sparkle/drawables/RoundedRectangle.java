@@ -33,8 +33,8 @@ public final class RoundedRectangle extends BasicShape {
         if (super.isOutsideScreen() || (fillIsTransparent && strokeIsTransparent)) {
             return;
         }
-        var x = super.getRenderingMode().getModifierX(super.getAnchor().getX() + super.getPosition().getX());
-        var y = super.getRenderingMode().getModifierY(super.getAnchor().getY() + super.getPosition().getY());
+        var x = super.getScreenX(super.getPosition().getX());
+        var y = super.getScreenY(super.getPosition().getY());
         var oldTransform = graphics.getTransform();
         if (super.getRotation() != 0) {
             graphics.rotate(Math.toRadians(super.getRotation()), x + (super.getSize().getX() / 2.0), y + super.getSize().getY() / 2.0);
@@ -69,5 +69,6 @@ public final class RoundedRectangle extends BasicShape {
 
     public void setRadius(int radius) {
         this.radius = Math.max(0, radius);
+        super.invalidate();
     }
 }
\ No newline at end of file
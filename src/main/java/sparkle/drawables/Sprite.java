@@ -31,6 +31,7 @@ public final class Sprite extends Drawable {
     private float rotation;
     private boolean flippedHorizontally;
     private boolean flippedVertically;
+    private State initialState;
 
     public Sprite() {
         this(null, null, null);
@@ -53,24 +54,40 @@ public final class Sprite extends Drawable {
         updateCurrentImage();
     }
 
+    @Override
+    protected void start() {
+        if (initialState == null) {
+            initialState = new State(texture, interpolation, color, alpha, blur, rotation, flippedHorizontally, flippedVertically);
+        }
+    }
+
+    @Override
+    protected void recycle() {
+        if (initialState == null) {
+            return;
+        }
+        setTexture(initialState.texture());
+        setInterpolation(initialState.interpolation());
+        setColor(initialState.color());
+        setAlpha(initialState.alpha());
+        setBlur(initialState.blur());
+        setRotation(initialState.rotation());
+        setFlippedHorizontally(initialState.flippedHorizontally());
+        setFlippedVertically(initialState.flippedVertically());
+    }
+
     @Override
     protected void update() {
         var body = super.getComponent(RigidBody.class);
         if (body != null) {
-            setRotation(body.getRotation());
-        }
-        var renderer = Game.getRenderer();
-        var oldInterpolation = renderer.getInterpolation();
-        if (interpolation != null) {
-            renderer.setInterpolation(interpolation);
+            setRotation(body.getInterpolatedRotation());
         }
         super.update();
-        renderer.setInterpolation(oldInterpolation);
     }
 
     @Override
     public boolean isOutsideScreen() {
-        return super.isOutsideScreen(position, size, null, rotation);
+        return super.isOutsideScreen(position, size, 1, rotation);
     }
 
     @Override
@@ -78,8 +95,8 @@ public final class Sprite extends Drawable {
         if (isOutsideScreen() || alpha == 0 || currentImage == null) {
             return;
         }
-        var x = super.getRenderingMode().getModifierX(super.getAnchor().getX() + position.getX());
-        var y = super.getRenderingMode().getModifierY(super.getAnchor().getY() + position.getY());
+        var x = super.getScreenX(position.getX());
+        var y = super.getScreenY(position.getY());
         var oldTransform = graphics.getTransform();
         if (rotation != 0) {
             graphics.rotate(Math.toRadians(rotation), x + (size.getX() / 2.0), y + size.getY() / 2.0);
@@ -88,6 +105,12 @@ public final class Sprite extends Drawable {
         graphics.setTransform(oldTransform);
     }
 
+    @Override
+    protected boolean updateScreenBounds() {
+        super.setScreenBounds(position, size, 1, rotation);
+        return true;
+    }
+
     public Vector2 getPosition() {
         return position;
     }
@@ -96,12 +119,14 @@ public final class Sprite extends Drawable {
         return size;
     }
 
+    @Override
     public Interpolation getInterpolation() {
         return interpolation;
     }
 
     public void setInterpolation(Interpolation interpolation) {
         this.interpolation = interpolation;
+        super.invalidate();
     }
 
     public Texture getTexture() {
@@ -114,6 +139,7 @@ public final class Sprite extends Drawable {
         }
         this.texture = Objects.requireNonNullElse(texture, new Texture(((BufferedImage) null)));
         updateCurrentImage();
+        super.invalidate();
     }
 
     public Color getColor() {
@@ -126,6 +152,7 @@ public final class Sprite extends Drawable {
         }
         this.color = Objects.requireNonNullElse(color, Color.TRANSPARENT);
         updateCurrentImage();
+        super.invalidate();
     }
 
     public float getAlpha() {
@@ -138,6 +165,7 @@ public final class Sprite extends Drawable {
         }
         this.alpha = Math.max(0, Math.min(1, alpha));
         updateCurrentImage();
+        super.invalidate();
     }
 
     public float getBlur() {
@@ -145,8 +173,12 @@ public final class Sprite extends Drawable {
     }
 
     public void setBlur(float blur) {
+        if (this.blur == blur) {
+            return;
+        }
         this.blur = Math.max(blur, 0);
         updateCurrentImage();
+        super.invalidate();
     }
 
     public float getRotation() {
@@ -154,6 +186,9 @@ public final class Sprite extends Drawable {
     }
 
     public void setRotation(float rotation) {
+        if (this.rotation != rotation) {
+            super.invalidate();
+        }
         this.rotation = rotation;
     }
 
@@ -167,6 +202,7 @@ public final class Sprite extends Drawable {
         }
         this.flippedHorizontally = flippedHorizontally;
         updateCurrentImage();
+        super.invalidate();
     }
 
     public boolean isFlippedVertically() {
@@ -179,6 +215,7 @@ public final class Sprite extends Drawable {
         }
         this.flippedVertically = flippedVertically;
         updateCurrentImage();
+        super.invalidate();
     }
 
     public Texture toTexture() {
@@ -288,4 +325,6 @@ public final class Sprite extends Drawable {
         convolveOp.filter(image, bufferedImage);
         return bufferedImage;
     }
+
+    private record State(Texture texture, Interpolation interpolation, Color color, float alpha, float blur, float rotation, boolean flippedHorizontally, boolean flippedVertically) {}
 }
\ No newline at end of file
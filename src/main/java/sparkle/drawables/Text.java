@@ -28,6 +28,7 @@ public final class Text extends Drawable {
     private float fontSize;
     private float strokeWidth;
     private float rotation;
+    private State initialState;
 
     public Text() {
         this(null);
@@ -57,18 +58,51 @@ public final class Text extends Drawable {
         updateSize();
     }
 
+    @Override
+    protected void start() {
+        if (initialState == null) {
+            initialState = new State(font, fill, stroke, strokeType, text, fontSize, strokeWidth, rotation);
+        }
+    }
+
+    @Override
+    protected void recycle() {
+        if (initialState == null) {
+            return;
+        }
+        setFont(initialState.font());
+        setFill(initialState.fill());
+        setStroke(initialState.stroke());
+        setStrokeType(initialState.strokeType());
+        setText(initialState.text());
+        setFontSize(initialState.fontSize());
+        setStrokeWidth(initialState.strokeWidth());
+        setRotation(initialState.rotation());
+    }
+
     @Override
     protected void update() {
         var body = super.getComponent(RigidBody.class);
         if (body != null) {
-            setRotation(body.getRotation());
+            setRotation(body.getInterpolatedRotation());
         }
         super.update();
     }
 
     @Override
     public boolean isOutsideScreen() {
-        return super.isOutsideScreen(position, size, (stroke.equals(Color.TRANSPARENT) || strokeWidth == 0 ? null : strokeObject), rotation);
+        return super.isOutsideScreen(position, size, strokeWidth + fontSize / 2 + 1, rotation);
+    }
+
+    @Override
+    protected Object getRenderState() {
+        return (fill.equals(Color.TRANSPARENT) ? stroke : fill);
+    }
+
+    @Override
+    protected boolean updateScreenBounds() {
+        super.setScreenBounds(position, size, strokeWidth + fontSize / 2 + 1, rotation);
+        return true;
     }
 
     @Override
@@ -78,8 +112,8 @@ public final class Text extends Drawable {
         if (isOutsideScreen() || (fillIsTransparent && strokeIsTransparent)) {
             return;
         }
-        var x = super.getRenderingMode().getModifierX(super.getAnchor().getX() + position.getX());
-        var y = super.getRenderingMode().getModifierY(super.getAnchor().getY() + position.getY());
+        var x = super.getScreenX(position.getX());
+        var y = super.getScreenY(position.getY());
         var oldTransform = graphics.getTransform();
         if (rotation != 0) {
             graphics.rotate(Math.toRadians(rotation), x + (size.getX() / 2.0), y + size.getY() / 2.0);
@@ -107,6 +141,7 @@ public final class Text extends Drawable {
         this.font = Objects.requireNonNullElse(font, new Font(new java.awt.Font(java.awt.Font.SANS_SERIF, java.awt.Font.PLAIN, (int) fontSize)));
         updateFont();
         updateSize();
+        super.invalidate();
     }
 
     public Paint getFill() {
@@ -115,6 +150,7 @@ public final class Text extends Drawable {
 
     public void setFill(Paint fill) {
         this.fill = Objects.requireNonNullElse(fill, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public Paint getStroke() {
@@ -123,6 +159,7 @@ public final class Text extends Drawable {
 
     public void setStroke(Paint stroke) {
         this.stroke = Objects.requireNonNullElse(stroke, Color.TRANSPARENT);
+        super.invalidate();
     }
 
     public String getText() {
@@ -135,6 +172,7 @@ public final class Text extends Drawable {
         }
         this.text = Objects.requireNonNullElse(text, "");
         updateSize();
+        super.invalidate();
     }
 
     public float getFontSize() {
@@ -148,6 +186,7 @@ public final class Text extends Drawable {
         this.fontSize = Math.max(0, fontSize);
         updateFont();
         updateSize();
+        super.invalidate();
     }
 
     public StrokeType getStrokeType() {
@@ -157,6 +196,7 @@ public final class Text extends Drawable {
     public void setStrokeType(StrokeType strokeType) {
         this.strokeType = Objects.requireNonNullElse(strokeType, StrokeType.ROUNDED);
         strokeObject = this.strokeType.build(strokeWidth);
+        super.invalidate();
     }
 
     public float getStrokeWidth() {
@@ -166,6 +206,7 @@ public final class Text extends Drawable {
     public void setStrokeWidth(float strokeWidth) {
         this.strokeWidth = Math.max(0, strokeWidth);
         strokeObject = strokeType.build(this.strokeWidth);
+        super.invalidate();
     }
 
     public float getRotation() {
@@ -173,6 +214,9 @@ public final class Text extends Drawable {
     }
 
     public void setRotation(float rotation) {
+        if (this.rotation != rotation) {
+            super.invalidate();
+        }
         this.rotation = rotation;
     }
 
@@ -250,4 +294,6 @@ public final class Text extends Drawable {
     private void updateFont() {
         font = new Font(font.getFont().deriveFont(fontSize));
     }
+
+    private record State(Font font, Paint fill, Paint stroke, StrokeType strokeType, String text, float fontSize, float strokeWidth, float rotation) {}
 }
\ No newline at end of file
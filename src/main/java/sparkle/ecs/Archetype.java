@@ -0,0 +1,201 @@
+package sparkle.ecs;
+
+import java.util.*;
+
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 16;
+    private final String name;
+    private final Map<String, Integer> floatColumnIndices;
+    private final Map<String, Integer> intColumnIndices;
+    private float[] positionX;
+    private float[] positionY;
+    private float[] sizeX;
+    private float[] sizeY;
+    private float[] velocityX;
+    private float[] velocityY;
+    private float[][] floatColumns;
+    private int[][] intColumns;
+    private int[] entities;
+    private int size;
+    private Entities owner;
+
+    public Archetype(String name) {
+        this(name, null, null);
+    }
+
+    public Archetype(String name, List<String> floatColumns, List<String> intColumns) {
+        this.name = Objects.requireNonNullElse(name, "");
+        floatColumnIndices = getColumnIndices(Objects.requireNonNullElse(floatColumns, List.of()));
+        intColumnIndices = getColumnIndices(Objects.requireNonNullElse(intColumns, List.of()));
+        positionX = new float[INITIAL_CAPACITY];
+        positionY = new float[INITIAL_CAPACITY];
+        sizeX = new float[INITIAL_CAPACITY];
+        sizeY = new float[INITIAL_CAPACITY];
+        velocityX = new float[INITIAL_CAPACITY];
+        velocityY = new float[INITIAL_CAPACITY];
+        this.floatColumns = new float[floatColumnIndices.size()][INITIAL_CAPACITY];
+        this.intColumns = new int[intColumnIndices.size()][INITIAL_CAPACITY];
+        entities = new int[INITIAL_CAPACITY];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getEntity(int row) {
+        Objects.checkIndex(row, size);
+        return entities[row];
+    }
+
+    public float[] getPositionX() {
+        return positionX;
+    }
+
+    public float[] getPositionY() {
+        return positionY;
+    }
+
+    public float[] getSizeX() {
+        return sizeX;
+    }
+
+    public float[] getSizeY() {
+        return sizeY;
+    }
+
+    public float[] getVelocityX() {
+        return velocityX;
+    }
+
+    public float[] getVelocityY() {
+        return velocityY;
+    }
+
+    public boolean hasFloatColumn(String column) {
+        return floatColumnIndices.containsKey(column);
+    }
+
+    public boolean hasIntColumn(String column) {
+        return intColumnIndices.containsKey(column);
+    }
+
+    public int getFloatColumnIndex(String column) {
+        var index = floatColumnIndices.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown float column: " + column);
+        }
+        return index;
+    }
+
+    public int getIntColumnIndex(String column) {
+        var index = intColumnIndices.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown int column: " + column);
+        }
+        return index;
+    }
+
+    public float[] getFloatColumn(int index) {
+        return floatColumns[index];
+    }
+
+    public float[] getFloatColumn(String column) {
+        return floatColumns[getFloatColumnIndex(column)];
+    }
+
+    public int[] getIntColumn(int index) {
+        return intColumns[index];
+    }
+
+    public int[] getIntColumn(String column) {
+        return intColumns[getIntColumnIndex(column)];
+    }
+
+    Entities getOwner() {
+        return owner;
+    }
+
+    void setOwner(Entities owner) {
+        this.owner = owner;
+    }
+
+    int addRow(int entity) {
+        if (size == entities.length) {
+            grow();
+        }
+        var row = size++;
+        entities[row] = entity;
+        clearRow(row);
+        return row;
+    }
+
+    int removeRow(int row) {
+        var last = --size;
+        if (row != last) {
+            moveRow(last, row);
+        }
+        return (row == last ? -1 : entities[row]);
+    }
+
+    private void moveRow(int from, int to) {
+        entities[to] = entities[from];
+        positionX[to] = positionX[from];
+        positionY[to] = positionY[from];
+        sizeX[to] = sizeX[from];
+        sizeY[to] = sizeY[from];
+        velocityX[to] = velocityX[from];
+        velocityY[to] = velocityY[from];
+        for (var column : floatColumns) {
+            column[to] = column[from];
+        }
+        for (var column : intColumns) {
+            column[to] = column[from];
+        }
+    }
+
+    private void clearRow(int row) {
+        positionX[row] = 0;
+        positionY[row] = 0;
+        sizeX[row] = 0;
+        sizeY[row] = 0;
+        velocityX[row] = 0;
+        velocityY[row] = 0;
+        for (var column : floatColumns) {
+            column[row] = 0;
+        }
+        for (var column : intColumns) {
+            column[row] = 0;
+        }
+    }
+
+    private void grow() {
+        var capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        positionX = Arrays.copyOf(positionX, capacity);
+        positionY = Arrays.copyOf(positionY, capacity);
+        sizeX = Arrays.copyOf(sizeX, capacity);
+        sizeY = Arrays.copyOf(sizeY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        for (var i = 0; i < floatColumns.length; i++) {
+            floatColumns[i] = Arrays.copyOf(floatColumns[i], capacity);
+        }
+        for (var i = 0; i < intColumns.length; i++) {
+            intColumns[i] = Arrays.copyOf(intColumns[i], capacity);
+        }
+    }
+
+    private static Map<String, Integer> getColumnIndices(List<String> columns) {
+        var indices = new HashMap<String, Integer>();
+        for (var column : columns) {
+            if (indices.putIfAbsent(Objects.requireNonNull(column), indices.size()) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + column);
+            }
+        }
+        return indices;
+    }
+}
\ No newline at end of file
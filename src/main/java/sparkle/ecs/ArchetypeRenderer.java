@@ -0,0 +1,87 @@
+package sparkle.ecs;
+
+import sparkle.assets.Texture;
+import sparkle.core.Drawable;
+import sparkle.core.Game;
+import sparkle.paints.Color;
+import sparkle.paints.Paint;
+
+import java.awt.*;
+import java.util.Objects;
+
+public final class ArchetypeRenderer extends Drawable {
+    private final Archetype archetype;
+    private Paint fill;
+    private Texture texture;
+
+    public ArchetypeRenderer(Archetype archetype, Paint fill) {
+        this(archetype, fill, null);
+    }
+
+    public ArchetypeRenderer(Archetype archetype, Texture texture) {
+        this(archetype, null, texture);
+    }
+
+    public ArchetypeRenderer(Archetype archetype, Paint fill, Texture texture) {
+        this.archetype = Objects.requireNonNull(archetype);
+        this.fill = Objects.requireNonNullElse(fill, Color.TRANSPARENT);
+        this.texture = texture;
+    }
+
+    @Override
+    public boolean isOutsideScreen() {
+        return archetype.size() == 0;
+    }
+
+    public Archetype getArchetype() {
+        return archetype;
+    }
+
+    public Paint getFill() {
+        return fill;
+    }
+
+    public void setFill(Paint fill) {
+        this.fill = Objects.requireNonNullElse(fill, Color.TRANSPARENT);
+    }
+
+    public Texture getTexture() {
+        return texture;
+    }
+
+    public void setTexture(Texture texture) {
+        this.texture = texture;
+    }
+
+    @Override
+    protected void render(Graphics2D graphics) {
+        var positionX = archetype.getPositionX();
+        var positionY = archetype.getPositionY();
+        var sizeX = archetype.getSizeX();
+        var sizeY = archetype.getSizeY();
+        var image = (texture == null ? null : texture.getImage());
+        var fillIsTransparent = fill.equals(Color.TRANSPARENT);
+        if (image == null && fillIsTransparent) {
+            return;
+        }
+        if (image == null) {
+            graphics.setPaint(fill.getPaint());
+        }
+        var width = Game.getWidth();
+        var height = Game.getHeight();
+        for (var row = 0; row < archetype.size(); row++) {
+            var x = Math.round(super.getScreenX(positionX[row]));
+            var y = Math.round(super.getScreenY(positionY[row]));
+            var w = Math.round(sizeX[row]);
+            var h = Math.round(sizeY[row]);
+            if (x + w < 0 || y + h < 0 || x > width || y > height) {
+                continue;
+            }
+            if (image == null) {
+                graphics.fillRect(x, y, w, h);
+            } else {
+                graphics.drawImage(image, x, y, w, h, null);
+            }
+        }
+    }
+}
\ No newline at end of file
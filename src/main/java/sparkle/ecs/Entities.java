@@ -0,0 +1,158 @@
+package sparkle.ecs;
+
+import java.util.*;
+
+public final class Entities {
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = Integer.MAX_VALUE >>> INDEX_BITS;
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final List<EntitySystem> systems = new ArrayList<>();
+    private final List<Runnable> pendingMutations = new ArrayList<>();
+    private int[] archetypeIndices = new int[16];
+    private int[] rows = new int[16];
+    private int[] generations = new int[16];
+    private int[] freeEntities = new int[16];
+    private int freeEntityCount;
+    private int entityCount;
+    private boolean updating;
+
+    public int create(Archetype archetype) {
+        return create(archetype, null);
+    }
+
+    public int create(Archetype archetype, EntityInitializer initializer) {
+        var archetypeIndex = register(Objects.requireNonNull(archetype));
+        var entity = allocateEntity();
+        archetypeIndices[entity & INDEX_MASK] = archetypeIndex;
+        rows[entity & INDEX_MASK] = -1;
+        if (updating) {
+            pendingMutations.add(() -> spawn(entity, archetype, initializer));
+            return entity;
+        }
+        spawn(entity, archetype, initializer);
+        return entity;
+    }
+
+    public void destroy(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        if (updating) {
+            pendingMutations.add(() -> despawn(entity));
+            return;
+        }
+        despawn(entity);
+    }
+
+    public boolean isAlive(int entity) {
+        if (entity < 0) {
+            return false;
+        }
+        var index = entity & INDEX_MASK;
+        return index < entityCount && archetypeIndices[index] != -1 && generations[index] == entity >>> INDEX_BITS;
+    }
+
+    public Archetype getArchetype(int entity) {
+        return (isAlive(entity) ? archetypes.get(archetypeIndices[entity & INDEX_MASK]) : null);
+    }
+
+    public int getRow(int entity) {
+        return (isAlive(entity) ? rows[entity & INDEX_MASK] : -1);
+    }
+
+    public int size() {
+        return entityCount - freeEntityCount;
+    }
+
+    public List<Archetype> getArchetypes() {
+        return Collections.unmodifiableList(archetypes);
+    }
+
+    public void addSystem(EntitySystem system) {
+        systems.add(Objects.requireNonNull(system));
+    }
+
+    public void removeSystem(EntitySystem system) {
+        systems.remove(system);
+    }
+
+    public void update() {
+        updating = true;
+        try {
+            for (var system : systems) {
+                for (var archetype : archetypes) {
+                    if (archetype.size() > 0 && system.accepts(archetype)) {
+                        system.update(archetype);
+                    }
+                }
+            }
+        } finally {
+            updating = false;
+        }
+        for (var i = 0; i < pendingMutations.size(); i++) {
+            pendingMutations.get(i).run();
+        }
+        pendingMutations.clear();
+    }
+
+    private int register(Archetype archetype) {
+        if (archetype.getOwner() == this) {
+            return archetypes.indexOf(archetype);
+        }
+        if (archetype.getOwner() != null) {
+            throw new IllegalArgumentException("An archetype cannot be shared between multiple entity storages");
+        }
+        archetype.setOwner(this);
+        archetypes.add(archetype);
+        return archetypes.size() - 1;
+    }
+
+    private int allocateEntity() {
+        if (freeEntityCount > 0) {
+            var index = freeEntities[--freeEntityCount];
+            return index | generations[index] << INDEX_BITS;
+        }
+        if (entityCount > INDEX_MASK) {
+            throw new RuntimeException("Entity limit reached");
+        }
+        if (entityCount == rows.length) {
+            archetypeIndices = Arrays.copyOf(archetypeIndices, entityCount * 2);
+            rows = Arrays.copyOf(rows, entityCount * 2);
+            generations = Arrays.copyOf(generations, entityCount * 2);
+        }
+        return entityCount++;
+    }
+
+    private void spawn(int entity, Archetype archetype, EntityInitializer initializer) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        var row = archetype.addRow(entity);
+        rows[entity & INDEX_MASK] = row;
+        if (initializer != null) {
+            initializer.initialize(archetype, row);
+        }
+    }
+
+    private void despawn(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        var index = entity & INDEX_MASK;
+        var row = rows[index];
+        if (row != -1) {
+            var movedEntity = archetypes.get(archetypeIndices[index]).removeRow(row);
+            if (movedEntity != -1) {
+                rows[movedEntity & INDEX_MASK] = row;
+            }
+        }
+        archetypeIndices[index] = -1;
+        rows[index] = -1;
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+        if (freeEntityCount == freeEntities.length) {
+            freeEntities = Arrays.copyOf(freeEntities, freeEntityCount * 2);
+        }
+        freeEntities[freeEntityCount++] = index;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package sparkle.ecs;
+
+public interface EntityInitializer {
+    void initialize(Archetype archetype, int row);
+}
\ No newline at end of file
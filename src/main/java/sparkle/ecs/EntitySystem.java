@@ -0,0 +1,9 @@
+package sparkle.ecs;
+
+public interface EntitySystem {
+    void update(Archetype archetype);
+
+    default boolean accepts(Archetype archetype) {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package sparkle.ecs;
+
+import sparkle.core.Time;
+
+public final class VelocitySystem implements EntitySystem {
+    @Override
+    public void update(Archetype archetype) {
+        var delta = Time.getDelta();
+        var positionX = archetype.getPositionX();
+        var positionY = archetype.getPositionY();
+        var velocityX = archetype.getVelocityX();
+        var velocityY = archetype.getVelocityY();
+        for (var row = 0; row < archetype.size(); row++) {
+            positionX[row] += velocityX[row] * delta;
+            positionY[row] += velocityY[row] * delta;
+        }
+    }
+}
\ No newline at end of file
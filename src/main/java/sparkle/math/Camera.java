@@ -18,8 +18,9 @@ public final class Camera extends Vector2 {
     }
 
     public void shake(float force) {
-        var moveX = (Math.random() * force * 2 - force);
-        var moveY = (Math.random() * force * 2 - force);
-        super.set(super.plus((float) moveX, (float) moveY));
+        var random = Game.getScene().getRandom();
+        var moveX = (random.nextFloat() * force * 2 - force);
+        var moveY = (random.nextFloat() * force * 2 - force);
+        super.set(super.plus(moveX, moveY));
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package sparkle.physics;
+
+import sparkle.core.GameObject;
+
+public record ContactEvent(ContactEventType type, GameObject contact) {}
\ No newline at end of file
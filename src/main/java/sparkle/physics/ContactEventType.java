@@ -0,0 +1,6 @@
+package sparkle.physics;
+
+public enum ContactEventType {
+    BEGIN,
+    END
+}
\ No newline at end of file
@@ -9,6 +9,8 @@ import org.jbox2d.dynamics.FixtureDef;
 import org.jbox2d.dynamics.World;
 import org.jbox2d.dynamics.contacts.Contact;
 import sparkle.core.Game;
+import sparkle.core.Profiler;
+import sparkle.core.ProfilerPhase;
 import sparkle.core.Time;
 import sparkle.math.ObservableVector2;
 import sparkle.math.Vector2;
@@ -32,8 +34,12 @@ public final class Physics {
     }
 
     public void update() {
+        var section = Profiler.begin();
         var fixedDelta = Time.getFixedDelta();
-        for (time += Time.getDelta(); time >= fixedDelta; time -= fixedDelta) {
+        var maxSubsteps = Game.getMaxSubsteps();
+        var substeps = 0;
+        for (time += Time.getDelta(); time >= fixedDelta && substeps < maxSubsteps; time -= fixedDelta) {
+            substeps++;
             world.step(fixedDelta, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
             var body = world.getBodyList();
             while (body != null) {
@@ -45,6 +51,14 @@ public final class Physics {
                 ((PhysicsCapabilities) gameObject).fixedUpdate();
             }
         }
+        if (time >= fixedDelta) {
+            time %= fixedDelta;
+        }
+        Profiler.end(ProfilerPhase.PHYSICS, section);
+    }
+
+    public float getInterpolationAlpha() {
+        return Math.min(1, time / Time.getFixedDelta());
     }
 
     public void rayCast(RayCastCallback rayCastCallback, Vector2Base pointA, Vector2Base pointB) {
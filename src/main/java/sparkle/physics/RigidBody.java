@@ -4,6 +4,7 @@ import org.jbox2d.common.Vec2;
 import org.jbox2d.dynamics.Body;
 import sparkle.core.Component;
 import sparkle.core.Game;
+import sparkle.core.Time;
 import sparkle.math.ObservableVector2;
 import sparkle.math.Vector2;
 import sparkle.math.Vector2Base;
@@ -14,6 +15,7 @@ public final class RigidBody extends Component {
     private final BodyType bodyType;
     private final Collider collider;
     private final ObservableVector2 linearVelocity;
+    private final Vector2 previousPosition;
     private Body body;
     private float angularVelocity;
     private float gravityScale;
@@ -21,8 +23,10 @@ public final class RigidBody extends Component {
     private float friction;
     private float restitution;
     private float rotation;
+    private float previousRotation;
     private boolean fixedRotation;
     private boolean trigger;
+    private boolean interpolated;
     private boolean updating;
 
     public RigidBody(BodyType bodyType) {
@@ -43,6 +47,8 @@ public final class RigidBody extends Component {
         this.fixedRotation = fixedRotation;
         this.trigger = trigger;
         linearVelocity = new ObservableVector2(this::onLinearVelocityChanged);
+        previousPosition = new Vector2();
+        interpolated = true;
     }
 
     @Override
@@ -51,6 +57,8 @@ public final class RigidBody extends Component {
             throw new IllegalStateException("Game object cannot have multiple bodies");
         }
         Game.getScene().getPhysics().addRigidBody(this);
+        previousPosition.set(super.position);
+        previousRotation = rotation;
     }
 
     @Override
@@ -58,12 +66,19 @@ public final class RigidBody extends Component {
         Game.getScene().getPhysics().removeRigidBody(this);
     }
 
+    @Override
+    protected void recycle() {
+        linearVelocity.set(0);
+        angularVelocity = 0;
+    }
+
     @Override
     protected void onPositionChanged(float oldX, float oldY, float newX, float newY) {
         if (body == null) {
             return;
         }
         if (!updating) {
+            previousPosition.set(newX, newY);
             body.setTransform(new Vec2((newX + size.getX() / 2) * Physics.PIXELS_TO_METERS, (newY + size.getY() / 2) * Physics.PIXELS_TO_METERS), (float) Math.toRadians(rotation));
         }
     }
@@ -110,11 +125,34 @@ public final class RigidBody extends Component {
 
     public void setRotation(float rotation) {
         this.rotation = rotation;
+        previousRotation = rotation;
         if (body != null) {
             body.setTransform(body.getPosition(), (float) Math.toRadians(rotation));
         }
     }
 
+    public Vector2 getInterpolatedPosition() {
+        if (!interpolated) {
+            return new Vector2(super.position);
+        }
+        return previousPosition.plus(super.position.minus(previousPosition).multiply(Time.getInterpolationAlpha()));
+    }
+
+    public float getInterpolatedRotation() {
+        if (!interpolated) {
+            return rotation;
+        }
+        return previousRotation + (rotation - previousRotation) * Time.getInterpolationAlpha();
+    }
+
+    public boolean isInterpolated() {
+        return interpolated;
+    }
+
+    public void setInterpolated(boolean interpolated) {
+        this.interpolated = interpolated;
+    }
+
     public Vector2 getLinearVelocity() {
         return linearVelocity;
     }
@@ -218,6 +256,8 @@ public final class RigidBody extends Component {
             return;
         }
         updating = true;
+        previousPosition.set(super.position);
+        previousRotation = rotation;
         linearVelocity.set(new Vector2(body.getLinearVelocity().x, body.getLinearVelocity().y).divide(Physics.PIXELS_TO_METERS));
         angularVelocity = body.getAngularVelocity();
         rotation = (float) Math.toDegrees(body.getAngle());
@@ -229,12 +269,20 @@ public final class RigidBody extends Component {
         for (var component : super.getComponents(ContactListener.class)) {
             component.onContactBegin(contact.getGameObject());
         }
+        var events = super.getGameObject().getEvents();
+        if (events.hasListeners(ContactEvent.class)) {
+            events.publish(new ContactEvent(ContactEventType.BEGIN, contact.getGameObject()));
+        }
     }
 
     void onContactEnd(RigidBody contact) {
         for (var component : super.getComponents(ContactListener.class)) {
             component.onContactEnd(contact.getGameObject());
         }
+        var events = super.getGameObject().getEvents();
+        if (events.hasListeners(ContactEvent.class)) {
+            events.publish(new ContactEvent(ContactEventType.END, contact.getGameObject()));
+        }
     }
 
     boolean shouldCollide(RigidBody contact) {
@@ -1,9 +1,12 @@
 package sparkle.prefabs;
 
 import sparkle.core.GameObject;
+import sparkle.core.GameObjectPool;
+import sparkle.core.UpdatePolicy;
 import sparkle.math.Vector2;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 public abstract class Prefab {
@@ -11,10 +14,30 @@ public abstract class Prefab {
     private final Vector2 size = new Vector2();
     private final Set<String> tags = new HashSet<>();
     private String name = "";
+    private GameObjectPool pool;
+    private UpdatePolicy updatePolicy = UpdatePolicy.ALWAYS;
     private int zIndex;
 
     public abstract GameObject instantiate();
 
+    public final GameObject obtain() {
+        if (pool == null) {
+            return instantiate();
+        }
+        var gameObject = pool.poll();
+        if (gameObject != null && !gameObject.getName().equals(Objects.requireNonNullElse(name, ""))) {
+            gameObject.setPool(null);
+            gameObject = null;
+        }
+        if (gameObject == null) {
+            gameObject = instantiate();
+            gameObject.setPool(pool);
+            return gameObject;
+        }
+        reset(gameObject);
+        return gameObject;
+    }
+
     public final Vector2 getPosition() {
         return position;
     }
@@ -35,6 +58,22 @@ public abstract class Prefab {
         this.name = name;
     }
 
+    public final GameObjectPool getPool() {
+        return pool;
+    }
+
+    public final void setPool(GameObjectPool pool) {
+        this.pool = pool;
+    }
+
+    public final UpdatePolicy getUpdatePolicy() {
+        return updatePolicy;
+    }
+
+    public final void setUpdatePolicy(UpdatePolicy updatePolicy) {
+        this.updatePolicy = Objects.requireNonNullElse(updatePolicy, UpdatePolicy.ALWAYS);
+    }
+
     public final int getZIndex() {
         return zIndex;
     }
@@ -43,11 +82,21 @@ public abstract class Prefab {
         this.zIndex = zIndex;
     }
 
+    protected void reset(GameObject gameObject) {
+        gameObject.getPosition().set(position);
+        gameObject.getSize().set(size);
+        gameObject.setZIndex(zIndex);
+        gameObject.setUpdatePolicy(updatePolicy);
+        gameObject.getTags().clear();
+        gameObject.getTags().addAll(tags);
+    }
+
     protected GameObject getBlankObject() {
         var gameObject = new GameObject(name);
         gameObject.getPosition().set(position);
         gameObject.getSize().set(size);
         gameObject.setZIndex(zIndex);
+        gameObject.setUpdatePolicy(updatePolicy);
         gameObject.getTags().addAll(tags);
         return gameObject;
     }
@@ -0,0 +1,66 @@
+package sparkle.prefabs;
+
+import sparkle.components.RenderLayerInitializer;
+import sparkle.core.GameObject;
+import sparkle.core.RenderLayer;
+import sparkle.xml.XMLElement;
+import sparkle.xml.XMLPrefab;
+
+public final class RenderLayerPrefab extends XMLPrefab {
+    private int minZIndex = Integer.MIN_VALUE;
+    private int maxZIndex = Integer.MAX_VALUE;
+    private String layerTag;
+    private boolean staticLayer = true;
+
+    @Override
+    public GameObject instantiate() {
+        var gameObject = super.getBlankObject();
+        gameObject.addComponent(new RenderLayerInitializer(new RenderLayer(minZIndex, maxZIndex, layerTag, staticLayer)));
+        return gameObject;
+    }
+
+    @Override
+    protected String getTagName() {
+        return "renderLayer";
+    }
+
+    @Override
+    protected void setProperties(XMLElement xmlElement) {
+        minZIndex = (int) xmlElement.getNumber("minZIndex", Integer.MIN_VALUE);
+        maxZIndex = (int) xmlElement.getNumber("maxZIndex", Integer.MAX_VALUE);
+        layerTag = xmlElement.getString("layerTag", null);
+        staticLayer = xmlElement.getBoolean("static", true);
+    }
+
+    public int getMinZIndex() {
+        return minZIndex;
+    }
+
+    public void setMinZIndex(int minZIndex) {
+        this.minZIndex = minZIndex;
+    }
+
+    public int getMaxZIndex() {
+        return maxZIndex;
+    }
+
+    public void setMaxZIndex(int maxZIndex) {
+        this.maxZIndex = maxZIndex;
+    }
+
+    public String getLayerTag() {
+        return layerTag;
+    }
+
+    public void setLayerTag(String layerTag) {
+        this.layerTag = layerTag;
+    }
+
+    public boolean isStatic() {
+        return staticLayer;
+    }
+
+    public void setStatic(boolean staticLayer) {
+        this.staticLayer = staticLayer;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package sparkle.snapshot;
+
+import sparkle.components.Aligner;
+import sparkle.math.Alignment;
+import sparkle.math.Bounds;
+
+import java.io.IOException;
+
+final class AlignerCodec implements ComponentCodec<Aligner> {
+    @Override
+    public Class<Aligner> getType() {
+        return Aligner.class;
+    }
+
+    @Override
+    public void write(Aligner aligner, SnapshotOutput output) throws IOException {
+        var bounds = aligner.getBounds();
+        output.writeEnum(aligner.getAlignment());
+        output.writeVector(aligner.getOffset());
+        output.writeGameObject(aligner.getBoundsGameObject());
+        output.writeBoolean(bounds != null);
+        if (bounds != null) {
+            output.writeVector(bounds.getPosition());
+            output.writeVector(bounds.getSize());
+        }
+    }
+
+    @Override
+    public Aligner read(SnapshotInput input) throws IOException {
+        var alignment = input.readEnum(Alignment.class);
+        var offset = input.readVector();
+        var gameObject = input.readGameObject();
+        if (gameObject != null) {
+            input.readBoolean();
+            return new Aligner(alignment, gameObject, offset);
+        }
+        var bounds = (input.readBoolean() ? new Bounds(input.readVector(), input.readVector()) : null);
+        return new Aligner(alignment, bounds, offset);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package sparkle.snapshot;
+
+import sparkle.assets.TextureAtlas;
+import sparkle.components.Animation;
+
+import java.io.IOException;
+
+final class AnimationCodec implements ComponentCodec<Animation> {
+    @Override
+    public Class<Animation> getType() {
+        return Animation.class;
+    }
+
+    @Override
+    public void write(Animation animation, SnapshotOutput output) throws IOException {
+        var textureAtlas = animation.getTextureAtlas();
+        output.writeTexture(textureAtlas.getSourceTexture());
+        output.writeFloat(textureAtlas.getTextureWidth());
+        output.writeFloat(textureAtlas.getTextureHeight());
+        output.writeInt(textureAtlas.getTextureCount());
+        output.writeInt(textureAtlas.getSpacing());
+        output.writeFloat(animation.getDelay());
+        output.writeInt(animation.getBeginIndex());
+        output.writeInt(animation.getEndIndex());
+        output.writeInt(animation.getCycleCount());
+        output.writeInt(animation.getIndex());
+        output.writeInt(animation.getCycle());
+        output.writeFloat(animation.getTimeLeft());
+        output.writeBoolean(animation.isDestroyOnFinished());
+    }
+
+    @Override
+    public Animation read(SnapshotInput input) throws IOException {
+        var textureAtlas = new TextureAtlas(input.readTexture(), input.readFloat(), input.readFloat(), input.readInt(), input.readInt());
+        var animation = new Animation(textureAtlas, input.readFloat(), input.readInt(), input.readInt(), input.readInt());
+        animation.resume(input.readInt(), input.readInt(), input.readFloat());
+        animation.setDestroyOnFinished(input.readBoolean());
+        return animation;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package sparkle.snapshot;
+
+import sparkle.assets.Audio;
+import sparkle.components.AudioSource;
+
+import java.io.IOException;
+import java.net.URI;
+
+final class AudioSourceCodec implements ComponentCodec<AudioSource> {
+    @Override
+    public Class<AudioSource> getType() {
+        return AudioSource.class;
+    }
+
+    @Override
+    public void write(AudioSource audioSource, SnapshotOutput output) throws IOException {
+        var audio = audioSource.getAudio();
+        output.writeUTF(audio.getURL().toExternalForm());
+        output.writeFloat(audio.getVolume());
+        output.writeBoolean(audio.isLooping());
+        output.writeBoolean(audioSource.isPlayingOnStart());
+    }
+
+    @Override
+    public AudioSource read(SnapshotInput input) throws IOException {
+        var audio = new Audio(URI.create(input.readUTF()).toURL(), input.readFloat(), input.readBoolean());
+        return new AudioSource(audio, input.readBoolean());
+    }
+}
\ No newline at end of file
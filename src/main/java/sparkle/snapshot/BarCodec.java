@@ -0,0 +1,76 @@
+package sparkle.snapshot;
+
+import sparkle.components.Bar;
+import sparkle.core.Interpolation;
+import sparkle.core.RenderingMode;
+import sparkle.drawables.StrokeType;
+import sparkle.math.Alignment;
+
+import java.io.IOException;
+
+final class BarCodec implements ComponentCodec<Bar> {
+    @Override
+    public Class<Bar> getType() {
+        return Bar.class;
+    }
+
+    @Override
+    public void write(Bar bar, SnapshotOutput output) throws IOException {
+        output.writeVector(bar.getPosition());
+        output.writeVector(bar.getSize());
+        output.writeFloat(bar.getValue());
+        output.writeEnum(bar.getFillDirection());
+        output.writeEnum(bar.getTextAlignment());
+        output.writeEnum(bar.getRenderingMode());
+        output.writeEnum(bar.getInterpolation());
+        output.writePaint(bar.getColor());
+        output.writeFloat(bar.getAlpha());
+        output.writeFloat(bar.getBlur());
+        output.writeFloat(bar.getRotation());
+        output.writeBoolean(bar.isFlippedHorizontally());
+        output.writeBoolean(bar.isFlippedVertically());
+        output.writePaint(bar.getBackground());
+        output.writePaint(bar.getForeground());
+        output.writePaint(bar.getStroke());
+        output.writeEnum(bar.getStrokeType());
+        output.writeFloat(bar.getStrokeWidth());
+        output.writeInt(bar.getRadius());
+        output.writeUTF(bar.getText());
+        output.writeFont(bar.getFont());
+        output.writeFloat(bar.getFontSize());
+        output.writePaint(bar.getTextFill());
+        output.writePaint(bar.getTextStroke());
+        output.writeEnum(bar.getTextStrokeType());
+        output.writeFloat(bar.getTextStrokeWidth());
+    }
+
+    @Override
+    public Bar read(SnapshotInput input) throws IOException {
+        var bar = new Bar(input.readVector(), input.readVector());
+        bar.setValue(input.readFloat());
+        bar.setFillDirection(input.readEnum(Bar.FillDirection.class));
+        bar.setTextAlignment(input.readEnum(Alignment.class));
+        bar.setRenderingMode(input.readEnum(RenderingMode.class));
+        bar.setInterpolation(input.readEnum(Interpolation.class));
+        bar.setColor(input.readColor());
+        bar.setAlpha(input.readFloat());
+        bar.setBlur(input.readFloat());
+        bar.setRotation(input.readFloat());
+        bar.setFlippedHorizontally(input.readBoolean());
+        bar.setFlippedVertically(input.readBoolean());
+        bar.setBackground(input.readPaint());
+        bar.setForeground(input.readPaint());
+        bar.setStroke(input.readPaint());
+        bar.setStrokeType(input.readEnum(StrokeType.class));
+        bar.setStrokeWidth(input.readFloat());
+        bar.setRadius(input.readInt());
+        bar.setText(input.readUTF());
+        bar.setFont(input.readFont());
+        bar.setFontSize(input.readFloat());
+        bar.setTextFill(input.readPaint());
+        bar.setTextStroke(input.readPaint());
+        bar.setTextStrokeType(input.readEnum(StrokeType.class));
+        bar.setTextStrokeWidth(input.readFloat());
+        return bar;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package sparkle.snapshot;
+
+import sparkle.core.Component;
+
+import java.io.IOException;
+
+public interface ComponentCodec<T extends Component> {
+    Class<T> getType();
+
+    void write(T component, SnapshotOutput output) throws IOException;
+
+    T read(SnapshotInput input) throws IOException;
+}
\ No newline at end of file
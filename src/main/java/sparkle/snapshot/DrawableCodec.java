@@ -0,0 +1,29 @@
+package sparkle.snapshot;
+
+import sparkle.core.Drawable;
+import sparkle.core.RenderingMode;
+
+import java.io.IOException;
+
+public abstract class DrawableCodec<T extends Drawable> implements ComponentCodec<T> {
+    protected abstract void writeDrawable(T drawable, SnapshotOutput output) throws IOException;
+
+    protected abstract T readDrawable(SnapshotInput input) throws IOException;
+
+    @Override
+    public final void write(T drawable, SnapshotOutput output) throws IOException {
+        output.writeEnum(drawable.getRenderingMode());
+        output.writeVector(drawable.getAnchor());
+        writeDrawable(drawable, output);
+    }
+
+    @Override
+    public final T read(SnapshotInput input) throws IOException {
+        var renderingMode = input.readEnum(RenderingMode.class);
+        var anchor = input.readVector();
+        var drawable = readDrawable(input);
+        drawable.setRenderingMode(renderingMode);
+        drawable.setAnchor(anchor);
+        return drawable;
+    }
+}
\ No newline at end of file
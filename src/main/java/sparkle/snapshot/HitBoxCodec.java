@@ -0,0 +1,25 @@
+package sparkle.snapshot;
+
+import sparkle.components.HitBox;
+
+import java.io.IOException;
+
+final class HitBoxCodec implements ComponentCodec<HitBox> {
+    @Override
+    public Class<HitBox> getType() {
+        return HitBox.class;
+    }
+
+    @Override
+    public void write(HitBox hitBox, SnapshotOutput output) throws IOException {
+        output.writeGameObject(hitBox.getBoxGameObject());
+        output.writeEnum(hitBox.getType());
+        output.writeFloat(hitBox.getBoxSize());
+        output.writeBoolean(hitBox.isIgnoringTrigger());
+    }
+
+    @Override
+    public HitBox read(SnapshotInput input) throws IOException {
+        return new HitBox(input.readGameObject(), input.readEnum(HitBox.Type.class), input.readFloat(), input.readBoolean());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.Line;
+import sparkle.drawables.StrokeType;
+
+import java.io.IOException;
+
+final class LineCodec extends DrawableCodec<Line> {
+    @Override
+    public Class<Line> getType() {
+        return Line.class;
+    }
+
+    @Override
+    protected void writeDrawable(Line line, SnapshotOutput output) throws IOException {
+        output.writeVector(line.getStartPosition());
+        output.writeVector(line.getEndPosition());
+        output.writePaint(line.getStroke());
+        output.writeEnum(line.getStrokeType());
+        output.writeFloat(line.getStrokeWidth());
+    }
+
+    @Override
+    protected Line readDrawable(SnapshotInput input) throws IOException {
+        return new Line(input.readVector(), input.readVector(), input.readPaint(), input.readEnum(StrokeType.class), input.readFloat());
+    }
+}
\ No newline at end of file
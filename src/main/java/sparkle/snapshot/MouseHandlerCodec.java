@@ -0,0 +1,22 @@
+package sparkle.snapshot;
+
+import sparkle.components.MouseHandler;
+
+import java.io.IOException;
+
+final class MouseHandlerCodec implements ComponentCodec<MouseHandler> {
+    @Override
+    public Class<MouseHandler> getType() {
+        return MouseHandler.class;
+    }
+
+    @Override
+    public void write(MouseHandler mouseHandler, SnapshotOutput output) throws IOException {
+        output.writeVector(mouseHandler.getOffset());
+    }
+
+    @Override
+    public MouseHandler read(SnapshotInput input) throws IOException {
+        return new MouseHandler(input.readVector());
+    }
+}
\ No newline at end of file
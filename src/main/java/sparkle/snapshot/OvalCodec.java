@@ -0,0 +1,29 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.Oval;
+import sparkle.drawables.StrokeType;
+
+import java.io.IOException;
+
+final class OvalCodec extends DrawableCodec<Oval> {
+    @Override
+    public Class<Oval> getType() {
+        return Oval.class;
+    }
+
+    @Override
+    protected void writeDrawable(Oval oval, SnapshotOutput output) throws IOException {
+        output.writeVector(oval.getPosition());
+        output.writeVector(oval.getSize());
+        output.writePaint(oval.getFill());
+        output.writePaint(oval.getStroke());
+        output.writeEnum(oval.getStrokeType());
+        output.writeFloat(oval.getStrokeWidth());
+        output.writeFloat(oval.getRotation());
+    }
+
+    @Override
+    protected Oval readDrawable(SnapshotInput input) throws IOException {
+        return new Oval(input.readVector(), input.readVector(), input.readPaint(), input.readPaint(), input.readEnum(StrokeType.class), input.readFloat(), input.readFloat());
+    }
+}
\ No newline at end of file
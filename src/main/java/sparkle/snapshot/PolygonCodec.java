@@ -0,0 +1,36 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.Polygon;
+import sparkle.drawables.StrokeType;
+import sparkle.math.Vector2;
+
+import java.io.IOException;
+
+final class PolygonCodec extends DrawableCodec<Polygon> {
+    @Override
+    public Class<Polygon> getType() {
+        return Polygon.class;
+    }
+
+    @Override
+    protected void writeDrawable(Polygon polygon, SnapshotOutput output) throws IOException {
+        var points = polygon.getPoints();
+        output.writeInt(points.size());
+        for (var point : points) {
+            output.writeVector(point);
+        }
+        output.writePaint(polygon.getFill());
+        output.writePaint(polygon.getStroke());
+        output.writeEnum(polygon.getStrokeType());
+        output.writeFloat(polygon.getStrokeWidth());
+    }
+
+    @Override
+    protected Polygon readDrawable(SnapshotInput input) throws IOException {
+        var points = new Vector2[input.readInt()];
+        for (var i = 0; i < points.length; i++) {
+            points[i] = input.readVector();
+        }
+        return new Polygon(points, input.readPaint(), input.readPaint(), input.readEnum(StrokeType.class), input.readFloat());
+    }
+}
\ No newline at end of file
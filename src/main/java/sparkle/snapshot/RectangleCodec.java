@@ -0,0 +1,29 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.Rectangle;
+import sparkle.drawables.StrokeType;
+
+import java.io.IOException;
+
+final class RectangleCodec extends DrawableCodec<Rectangle> {
+    @Override
+    public Class<Rectangle> getType() {
+        return Rectangle.class;
+    }
+
+    @Override
+    protected void writeDrawable(Rectangle rectangle, SnapshotOutput output) throws IOException {
+        output.writeVector(rectangle.getPosition());
+        output.writeVector(rectangle.getSize());
+        output.writePaint(rectangle.getFill());
+        output.writePaint(rectangle.getStroke());
+        output.writeEnum(rectangle.getStrokeType());
+        output.writeFloat(rectangle.getStrokeWidth());
+        output.writeFloat(rectangle.getRotation());
+    }
+
+    @Override
+    protected Rectangle readDrawable(SnapshotInput input) throws IOException {
+        return new Rectangle(input.readVector(), input.readVector(), input.readPaint(), input.readPaint(), input.readEnum(StrokeType.class), input.readFloat(), input.readFloat());
+    }
+}
\ No newline at end of file
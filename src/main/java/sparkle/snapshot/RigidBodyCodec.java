@@ -0,0 +1,40 @@
+package sparkle.snapshot;
+
+import sparkle.physics.BodyType;
+import sparkle.physics.Collider;
+import sparkle.physics.RigidBody;
+
+import java.io.IOException;
+
+final class RigidBodyCodec implements ComponentCodec<RigidBody> {
+    @Override
+    public Class<RigidBody> getType() {
+        return RigidBody.class;
+    }
+
+    @Override
+    public void write(RigidBody rigidBody, SnapshotOutput output) throws IOException {
+        output.writeEnum(rigidBody.getBodyType());
+        output.writeEnum(rigidBody.getCollider());
+        output.writeFloat(rigidBody.getGravityScale());
+        output.writeFloat(rigidBody.getDensity());
+        output.writeFloat(rigidBody.getFriction());
+        output.writeFloat(rigidBody.getRestitution());
+        output.writeBoolean(rigidBody.isFixedRotation());
+        output.writeBoolean(rigidBody.isTrigger());
+        output.writeBoolean(rigidBody.isInterpolated());
+        output.writeFloat(rigidBody.getRotation());
+        output.writeFloat(rigidBody.getAngularVelocity());
+        output.writeVector(rigidBody.getLinearVelocity());
+    }
+
+    @Override
+    public RigidBody read(SnapshotInput input) throws IOException {
+        var rigidBody = new RigidBody(input.readEnum(BodyType.class), input.readEnum(Collider.class), input.readFloat(), input.readFloat(), input.readFloat(), input.readFloat(), input.readBoolean(), input.readBoolean());
+        rigidBody.setInterpolated(input.readBoolean());
+        rigidBody.setRotation(input.readFloat());
+        rigidBody.setAngularVelocity(input.readFloat());
+        rigidBody.getLinearVelocity().set(input.readVector());
+        return rigidBody;
+    }
+}
\ No newline at end of file
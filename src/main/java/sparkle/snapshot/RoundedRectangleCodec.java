@@ -0,0 +1,30 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.RoundedRectangle;
+import sparkle.drawables.StrokeType;
+
+import java.io.IOException;
+
+final class RoundedRectangleCodec extends DrawableCodec<RoundedRectangle> {
+    @Override
+    public Class<RoundedRectangle> getType() {
+        return RoundedRectangle.class;
+    }
+
+    @Override
+    protected void writeDrawable(RoundedRectangle roundedRectangle, SnapshotOutput output) throws IOException {
+        output.writeVector(roundedRectangle.getPosition());
+        output.writeVector(roundedRectangle.getSize());
+        output.writePaint(roundedRectangle.getFill());
+        output.writePaint(roundedRectangle.getStroke());
+        output.writeEnum(roundedRectangle.getStrokeType());
+        output.writeFloat(roundedRectangle.getStrokeWidth());
+        output.writeFloat(roundedRectangle.getRotation());
+        output.writeInt(roundedRectangle.getRadius());
+    }
+
+    @Override
+    protected RoundedRectangle readDrawable(SnapshotInput input) throws IOException {
+        return new RoundedRectangle(input.readVector(), input.readVector(), input.readPaint(), input.readPaint(), input.readEnum(StrokeType.class), input.readFloat(), input.readFloat(), input.readInt());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package sparkle.snapshot;
+
+import sparkle.assets.Font;
+import sparkle.assets.Texture;
+import sparkle.core.Component;
+import sparkle.core.GameObject;
+import sparkle.core.Scene;
+import sparkle.core.UpdatePolicy;
+import sparkle.math.Vector2;
+import sparkle.utils.ResourceLoader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public final class SceneSnapshot {
+    private static final int MAGIC = 0x53504b53;
+    private static final int VERSION = 1;
+    private static final int EMPTY_ASSET = 0;
+    private static final int RESOURCE_ASSET = 1;
+    private static final int EMBEDDED_ASSET = 2;
+    private static final ExecutorService snapshotIO = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "Snapshot IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<String> types;
+    private final List<Texture> textures;
+    private final List<Font> fonts;
+    private final List<GameObjectState> gameObjects;
+    private final Vector2 camera;
+    private final Vector2 gravity;
+
+    private SceneSnapshot(List<String> types, List<Texture> textures, List<Font> fonts, List<GameObjectState> gameObjects, Vector2 camera, Vector2 gravity) {
+        this.types = List.copyOf(types);
+        this.textures = List.copyOf(textures);
+        this.fonts = List.copyOf(fonts);
+        this.gameObjects = List.copyOf(gameObjects);
+        this.camera = camera;
+        this.gravity = gravity;
+    }
+
+    public static SceneSnapshot capture(Scene scene) {
+        var types = new ArrayList<String>();
+        var gameObjects = new ArrayList<GameObjectState>();
+        var gameObjectIndices = new IdentityHashMap<GameObject, Integer>();
+        for (var gameObject : scene.getGameObjects()) {
+            gameObjectIndices.put(gameObject, gameObjectIndices.size());
+        }
+        var output = new SnapshotOutput(gameObjectIndices);
+        try {
+            for (var gameObject : scene.getGameObjects()) {
+                var components = new ArrayList<ComponentState>();
+                for (var component : gameObject.getComponents()) {
+                    var codec = SnapshotCodecs.getCodec(component.getClass());
+                    if (codec == null) {
+                        throw new IllegalStateException("No codec registered for component type: " + component.getClass().getName());
+                    }
+                    writeComponent(codec, component, output);
+                    var typeName = codec.getType().getName();
+                    var type = types.indexOf(typeName);
+                    if (type < 0) {
+                        types.add(typeName);
+                        type = types.size() - 1;
+                    }
+                    components.add(new ComponentState(type, output.takeBytes()));
+                }
+                var position = gameObject.getPosition();
+                var size = gameObject.getSize();
+                var updatePolicy = gameObject.getUpdatePolicy();
+                gameObjects.add(new GameObjectState(gameObject.getName(), position.getX(), position.getY(), size.getX(), size.getY(), gameObject.getZIndex(), List.copyOf(gameObject.getTags()), updatePolicy.getInterval(), updatePolicy.getSleepMargin(), List.copyOf(components)));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not capture scene snapshot", e);
+        }
+        return new SceneSnapshot(types, output.getTextures(), output.getFonts(), gameObjects, new Vector2(scene.getCamera()), new Vector2(scene.getPhysics().getGravity()));
+    }
+
+    public static CompletableFuture<SceneSnapshot> load(Path path) {
+        return CompletableFuture.supplyAsync(() -> read(path), snapshotIO);
+    }
+
+    public static SceneSnapshot read(Path path) {
+        try (var input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (input.readInt() != MAGIC || input.readUnsignedShort() != VERSION) {
+                throw new IllegalArgumentException("Unsupported scene snapshot: " + path);
+            }
+            var types = new ArrayList<String>();
+            for (var i = input.readInt(); i > 0; i--) {
+                types.add(input.readUTF());
+            }
+            var textures = new ArrayList<Texture>();
+            for (var i = input.readInt(); i > 0; i--) {
+                textures.add(readTexture(input));
+            }
+            var fonts = new ArrayList<Font>();
+            for (var i = input.readInt(); i > 0; i--) {
+                fonts.add(readFont(input));
+            }
+            var camera = new Vector2(input.readFloat(), input.readFloat());
+            var gravity = new Vector2(input.readFloat(), input.readFloat());
+            var gameObjects = new ArrayList<GameObjectState>();
+            for (var i = input.readInt(); i > 0; i--) {
+                gameObjects.add(readGameObject(input));
+            }
+            return new SceneSnapshot(types, textures, fonts, gameObjects, camera, gravity);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read scene snapshot: " + path, e);
+        }
+    }
+
+    public CompletableFuture<Path> save(Path path) {
+        return CompletableFuture.supplyAsync(() -> write(path), snapshotIO);
+    }
+
+    public Path write(Path path) {
+        try (var output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(path))))) {
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeInt(types.size());
+            for (var type : types) {
+                output.writeUTF(type);
+            }
+            output.writeInt(textures.size());
+            for (var texture : textures) {
+                writeTexture(output, texture);
+            }
+            output.writeInt(fonts.size());
+            for (var font : fonts) {
+                writeFont(output, font);
+            }
+            output.writeFloat(camera.getX());
+            output.writeFloat(camera.getY());
+            output.writeFloat(gravity.getX());
+            output.writeFloat(gravity.getY());
+            output.writeInt(gameObjects.size());
+            for (var gameObject : gameObjects) {
+                writeGameObject(output, gameObject);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write scene snapshot: " + path, e);
+        }
+        return path;
+    }
+
+    public void restore(Scene scene) {
+        var restoredGameObjects = new ArrayList<GameObject>(gameObjects.size());
+        for (var gameObject : gameObjects) {
+            restoredGameObjects.add(restoreGameObject(gameObject));
+        }
+        try {
+            for (var i = 0; i < gameObjects.size(); i++) {
+                restoreComponents(gameObjects.get(i), restoredGameObjects.get(i), restoredGameObjects);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not restore scene snapshot", e);
+        }
+        scene.removeGameObjects(List.copyOf(scene.getGameObjects()));
+        scene.addGameObjects(restoredGameObjects);
+        scene.getCamera().set(camera);
+        scene.getPhysics().getGravity().set(gravity);
+    }
+
+    public int getGameObjectCount() {
+        return gameObjects.size();
+    }
+
+    private static <T extends Component> void writeComponent(ComponentCodec<T> codec, Component component, SnapshotOutput output) throws IOException {
+        codec.write(codec.getType().cast(component), output);
+    }
+
+    private static void writeTexture(DataOutputStream output, Texture texture) throws IOException {
+        var resourcePath = ResourceLoader.getResourcePath(texture);
+        if (resourcePath != null) {
+            output.writeByte(RESOURCE_ASSET);
+            output.writeUTF(resourcePath);
+        } else if (texture.getImage() == null) {
+            output.writeByte(EMPTY_ASSET);
+        } else {
+            var bytes = new ByteArrayOutputStream();
+            ImageIO.write(texture.getImage(), "png", bytes);
+            output.writeByte(EMBEDDED_ASSET);
+            output.writeInt(bytes.size());
+            bytes.writeTo(output);
+        }
+    }
+
+    private static Texture readTexture(DataInputStream input) throws IOException {
+        var type = input.readUnsignedByte();
+        return switch (type) {
+            case EMPTY_ASSET -> new Texture((BufferedImage) null);
+            case RESOURCE_ASSET -> ResourceLoader.getTexture(input.readUTF());
+            case EMBEDDED_ASSET -> new Texture(ImageIO.read(new ByteArrayInputStream(input.readNBytes(input.readInt()))));
+            default -> throw new IllegalArgumentException("Unknown texture type: " + type);
+        };
+    }
+
+    private static void writeFont(DataOutputStream output, Font font) throws IOException {
+        var resourcePath = ResourceLoader.getResourcePath(font);
+        if (resourcePath != null) {
+            output.writeByte(RESOURCE_ASSET);
+            output.writeUTF(resourcePath);
+            return;
+        }
+        var awtFont = font.getFont();
+        output.writeByte(EMBEDDED_ASSET);
+        output.writeUTF(awtFont.getName());
+        output.writeInt(awtFont.getStyle());
+        output.writeInt(awtFont.getSize());
+    }
+
+    private static Font readFont(DataInputStream input) throws IOException {
+        var type = input.readUnsignedByte();
+        return switch (type) {
+            case RESOURCE_ASSET -> ResourceLoader.getFont(input.readUTF());
+            case EMBEDDED_ASSET -> new Font(new java.awt.Font(input.readUTF(), input.readInt(), input.readInt()));
+            default -> throw new IllegalArgumentException("Unknown font type: " + type);
+        };
+    }
+
+    private static void writeGameObject(DataOutputStream output, GameObjectState gameObject) throws IOException {
+        output.writeUTF(gameObject.name());
+        output.writeFloat(gameObject.x());
+        output.writeFloat(gameObject.y());
+        output.writeFloat(gameObject.width());
+        output.writeFloat(gameObject.height());
+        output.writeInt(gameObject.zIndex());
+        output.writeShort(gameObject.tags().size());
+        for (var tag : gameObject.tags()) {
+            output.writeUTF(tag);
+        }
+        output.writeInt(gameObject.updateInterval());
+        output.writeFloat(gameObject.sleepMargin());
+        output.writeShort(gameObject.components().size());
+        for (var component : gameObject.components()) {
+            output.writeShort(component.type());
+            output.writeInt(component.data().length);
+            output.write(component.data());
+        }
+    }
+
+    private static GameObjectState readGameObject(DataInputStream input) throws IOException {
+        var name = input.readUTF();
+        var x = input.readFloat();
+        var y = input.readFloat();
+        var width = input.readFloat();
+        var height = input.readFloat();
+        var zIndex = input.readInt();
+        var tags = new ArrayList<String>();
+        for (var i = input.readUnsignedShort(); i > 0; i--) {
+            tags.add(input.readUTF());
+        }
+        var updateInterval = input.readInt();
+        var sleepMargin = input.readFloat();
+        var components = new ArrayList<ComponentState>();
+        for (var i = input.readUnsignedShort(); i > 0; i--) {
+            var type = input.readUnsignedShort();
+            components.add(new ComponentState(type, input.readNBytes(input.readInt())));
+        }
+        return new GameObjectState(name, x, y, width, height, zIndex, List.copyOf(tags), updateInterval, sleepMargin, List.copyOf(components));
+    }
+
+    private static GameObject restoreGameObject(GameObjectState state) {
+        var gameObject = new GameObject(state.name(), new Vector2(state.x(), state.y()), new Vector2(state.width(), state.height()), state.zIndex());
+        gameObject.getTags().addAll(state.tags());
+        gameObject.setUpdatePolicy(new UpdatePolicy(state.updateInterval(), state.sleepMargin()));
+        return gameObject;
+    }
+
+    private void restoreComponents(GameObjectState state, GameObject gameObject, List<GameObject> gameObjects) throws IOException {
+        for (var component : state.components()) {
+            var typeName = types.get(component.type());
+            var codec = SnapshotCodecs.getCodec(typeName);
+            if (codec == null) {
+                throw new IllegalStateException("No codec registered for component type: " + typeName);
+            }
+            try (var input = new SnapshotInput(component.data(), textures, fonts, gameObjects)) {
+                gameObject.addComponent(codec.read(input));
+            }
+        }
+    }
+
+    private record GameObjectState(String name, float x, float y, float width, float height, int zIndex, List<String> tags, int updateInterval, float sleepMargin, List<ComponentState> components) {}
+
+    private record ComponentState(int type, byte[] data) {}
+}
\ No newline at end of file
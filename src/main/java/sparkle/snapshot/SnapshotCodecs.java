@@ -0,0 +1,43 @@
+package sparkle.snapshot;
+
+import sparkle.core.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class SnapshotCodecs {
+    private static final Map<String, ComponentCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    static {
+        addCodec(new AlignerCodec());
+        addCodec(new AnimationCodec());
+        addCodec(new AudioSourceCodec());
+        addCodec(new BarCodec());
+        addCodec(new HitBoxCodec());
+        addCodec(new LineCodec());
+        addCodec(new MouseHandlerCodec());
+        addCodec(new OvalCodec());
+        addCodec(new PolygonCodec());
+        addCodec(new RectangleCodec());
+        addCodec(new RigidBodyCodec());
+        addCodec(new RoundedRectangleCodec());
+        addCodec(new SpriteCodec());
+        addCodec(new TextCodec());
+    }
+
+    public static void addCodec(ComponentCodec<?> codec) {
+        var typeName = codec.getType().getName();
+        if (codecs.putIfAbsent(typeName, codec) != null) {
+            throw new IllegalArgumentException("A codec for the same component type (" + typeName + ") already exists");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Component> ComponentCodec<T> getCodec(Class<T> componentClass) {
+        return (ComponentCodec<T>) codecs.get(componentClass.getName());
+    }
+
+    static ComponentCodec<?> getCodec(String typeName) {
+        return codecs.get(typeName);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package sparkle.snapshot;
+
+import sparkle.assets.Font;
+import sparkle.assets.Texture;
+import sparkle.core.GameObject;
+import sparkle.math.Vector2;
+import sparkle.paints.Color;
+import sparkle.paints.Paint;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+
+public final class SnapshotInput extends DataInputStream {
+    private final List<Texture> textures;
+    private final List<Font> fonts;
+    private final List<GameObject> gameObjects;
+
+    SnapshotInput(byte[] bytes, List<Texture> textures, List<Font> fonts, List<GameObject> gameObjects) {
+        super(new ByteArrayInputStream(bytes));
+        this.textures = textures;
+        this.fonts = fonts;
+        this.gameObjects = gameObjects;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> enumClass) throws IOException {
+        var ordinal = readShort();
+        return ordinal < 0 ? null : enumClass.getEnumConstants()[ordinal];
+    }
+
+    public String readNullableString() throws IOException {
+        return readBoolean() ? readUTF() : null;
+    }
+
+    public Vector2 readVector() throws IOException {
+        return new Vector2(readFloat(), readFloat());
+    }
+
+    public Paint readPaint() throws IOException {
+        var type = readUnsignedByte();
+        return switch (type) {
+            case SnapshotOutput.NULL -> null;
+            case SnapshotOutput.COLOR -> {
+                var argb = readInt();
+                yield new Color(argb >> 16 & 255, argb >> 8 & 255, argb & 255, argb >>> 24);
+            }
+            default -> throw new IllegalArgumentException("Unknown paint type: " + type);
+        };
+    }
+
+    public Color readColor() throws IOException {
+        return (Color) readPaint();
+    }
+
+    public Texture readTexture() throws IOException {
+        var index = readInt();
+        return index < 0 ? null : textures.get(index);
+    }
+
+    public Font readFont() throws IOException {
+        var index = readInt();
+        return index < 0 ? null : fonts.get(index);
+    }
+
+    public GameObject readGameObject() throws IOException {
+        var index = readInt();
+        return index < 0 ? null : gameObjects.get(index);
+    }
+}
\ No newline at end of file
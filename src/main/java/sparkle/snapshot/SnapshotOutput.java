@@ -0,0 +1,105 @@
+package sparkle.snapshot;
+
+import sparkle.assets.Font;
+import sparkle.assets.Texture;
+import sparkle.core.GameObject;
+import sparkle.math.Vector2Base;
+import sparkle.paints.Color;
+import sparkle.paints.Paint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class SnapshotOutput extends DataOutputStream {
+    static final int NULL = 0;
+    static final int COLOR = 1;
+    private final ByteArrayOutputStream buffer;
+    private final List<Texture> textures = new ArrayList<>();
+    private final List<Font> fonts = new ArrayList<>();
+    private final Map<Texture, Integer> textureIndices = new IdentityHashMap<>();
+    private final Map<Font, Integer> fontIndices = new IdentityHashMap<>();
+    private final Map<GameObject, Integer> gameObjectIndices;
+
+    SnapshotOutput(Map<GameObject, Integer> gameObjectIndices) {
+        this(new ByteArrayOutputStream(), gameObjectIndices);
+    }
+
+    private SnapshotOutput(ByteArrayOutputStream buffer, Map<GameObject, Integer> gameObjectIndices) {
+        super(buffer);
+        this.buffer = buffer;
+        this.gameObjectIndices = gameObjectIndices;
+    }
+
+    public void writeEnum(Enum<?> value) throws IOException {
+        writeShort(value == null ? -1 : value.ordinal());
+    }
+
+    public void writeNullableString(String value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeUTF(value);
+        }
+    }
+
+    public void writeVector(Vector2Base vector) throws IOException {
+        writeFloat(vector.getX());
+        writeFloat(vector.getY());
+    }
+
+    public void writePaint(Paint paint) throws IOException {
+        if (paint == null) {
+            writeByte(NULL);
+            return;
+        }
+        if (!(paint instanceof Color color)) {
+            throw new IllegalArgumentException("Unsupported paint type: " + paint.getClass().getName());
+        }
+        writeByte(COLOR);
+        writeInt(color.getAlpha() << 24 | color.getRed() << 16 | color.getGreen() << 8 | color.getBlue());
+    }
+
+    public void writeTexture(Texture texture) throws IOException {
+        writeInt(texture == null ? -1 : textureIndices.computeIfAbsent(texture, key -> {
+            textures.add(key);
+            return textures.size() - 1;
+        }));
+    }
+
+    public void writeFont(Font font) throws IOException {
+        writeInt(font == null ? -1 : fontIndices.computeIfAbsent(font, key -> {
+            fonts.add(key);
+            return fonts.size() - 1;
+        }));
+    }
+
+    public void writeGameObject(GameObject gameObject) throws IOException {
+        if (gameObject == null) {
+            writeInt(-1);
+            return;
+        }
+        var index = gameObjectIndices.get(gameObject);
+        if (index == null) {
+            throw new IllegalArgumentException("Referenced game object is not part of the scene: " + gameObject.getName());
+        }
+        writeInt(index);
+    }
+
+    byte[] takeBytes() {
+        var bytes = buffer.toByteArray();
+        buffer.reset();
+        return bytes;
+    }
+
+    List<Texture> getTextures() {
+        return List.copyOf(textures);
+    }
+
+    List<Font> getFonts() {
+        return List.copyOf(fonts);
+    }
+}
\ No newline at end of file
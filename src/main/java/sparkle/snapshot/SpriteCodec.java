@@ -0,0 +1,34 @@
+package sparkle.snapshot;
+
+import sparkle.core.Interpolation;
+import sparkle.drawables.Sprite;
+
+import java.io.IOException;
+
+final class SpriteCodec extends DrawableCodec<Sprite> {
+    @Override
+    public Class<Sprite> getType() {
+        return Sprite.class;
+    }
+
+    @Override
+    protected void writeDrawable(Sprite sprite, SnapshotOutput output) throws IOException {
+        output.writeVector(sprite.getPosition());
+        output.writeVector(sprite.getSize());
+        output.writeTexture(sprite.getTexture());
+        output.writePaint(sprite.getColor());
+        output.writeFloat(sprite.getAlpha());
+        output.writeFloat(sprite.getBlur());
+        output.writeFloat(sprite.getRotation());
+        output.writeBoolean(sprite.isFlippedHorizontally());
+        output.writeBoolean(sprite.isFlippedVertically());
+        output.writeEnum(sprite.getInterpolation());
+    }
+
+    @Override
+    protected Sprite readDrawable(SnapshotInput input) throws IOException {
+        var sprite = new Sprite(input.readVector(), input.readVector(), input.readTexture(), input.readColor(), input.readFloat(), input.readFloat(), input.readFloat(), input.readBoolean(), input.readBoolean());
+        sprite.setInterpolation(input.readEnum(Interpolation.class));
+        return sprite;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package sparkle.snapshot;
+
+import sparkle.drawables.StrokeType;
+import sparkle.drawables.Text;
+
+import java.io.IOException;
+
+final class TextCodec extends DrawableCodec<Text> {
+    @Override
+    public Class<Text> getType() {
+        return Text.class;
+    }
+
+    @Override
+    protected void writeDrawable(Text text, SnapshotOutput output) throws IOException {
+        output.writeVector(text.getPosition());
+        output.writeFont(text.getFont());
+        output.writePaint(text.getFill());
+        output.writePaint(text.getStroke());
+        output.writeEnum(text.getStrokeType());
+        output.writeUTF(text.getText());
+        output.writeFloat(text.getFontSize());
+        output.writeFloat(text.getStrokeWidth());
+        output.writeFloat(text.getRotation());
+    }
+
+    @Override
+    protected Text readDrawable(SnapshotInput input) throws IOException {
+        return new Text(input.readVector(), input.readFont(), input.readPaint(), input.readPaint(), input.readEnum(StrokeType.class), input.readUTF(), input.readFloat(), input.readFloat(), input.readFloat());
+    }
+}
\ No newline at end of file
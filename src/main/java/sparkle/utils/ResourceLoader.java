@@ -6,33 +6,32 @@ import sparkle.assets.Texture;
 import sparkle.xml.XMLDocument;
 
 import java.net.URL;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ResourceLoader {
-    private static final Map<String, Texture> textures = new HashMap<>();
-    private static final Map<String, Font> fonts = new HashMap<>();
+    private static final Map<String, Texture> textures = new ConcurrentHashMap<>();
+    private static final Map<String, Font> fonts = new ConcurrentHashMap<>();
+    private static final Map<Object, String> resourcePaths = new ConcurrentHashMap<>();
 
     public static URL getURL(String resourcePath) {
         return ResourceLoader.class.getResource(formatResourcePath(resourcePath));
     }
 
     public static Texture getTexture(String resourcePath) {
-        if (textures.containsKey(resourcePath)) {
-            return textures.get(resourcePath);
-        }
-        var texture = new Texture(getURL(resourcePath));
-        textures.put(resourcePath, texture);
-        return texture;
+        return textures.computeIfAbsent(resourcePath, path -> registerResource(new Texture(getURL(path)), path));
     }
 
     public static Font getFont(String resourcePath) {
-        if (fonts.containsKey(resourcePath)) {
-            return fonts.get(resourcePath);
-        }
-        var font = new Font(getURL(resourcePath));
-        fonts.put(resourcePath, font);
-        return font;
+        return fonts.computeIfAbsent(resourcePath, path -> registerResource(new Font(getURL(path)), path));
+    }
+
+    public static String getResourcePath(Texture texture) {
+        return texture == null ? null : resourcePaths.get(texture);
+    }
+
+    public static String getResourcePath(Font font) {
+        return font == null ? null : resourcePaths.get(font);
     }
 
     public static Audio getAudio(String resourcePath) {
@@ -51,6 +50,11 @@ public final class ResourceLoader {
         return new XMLDocument(getURL(resourcePath));
     }
 
+    private static <T> T registerResource(T resource, String resourcePath) {
+        resourcePaths.put(resource, resourcePath);
+        return resource;
+    }
+
     private static String formatResourcePath(String resourcePath) {
         if (!resourcePath.startsWith("/")) {
             return "/" + resourcePath;
@@ -12,27 +12,29 @@ import java.util.List;
 
 public final class XMLDocument {
     private static final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    private static final DocumentBuilder builder;
-
-    static {
-        try {
-            builder = factory.newDocumentBuilder();
-        } catch (ParserConfigurationException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    private static final ThreadLocal<DocumentBuilder> builder = ThreadLocal.withInitial(XMLDocument::buildDocumentBuilder);
 
     private final XMLElement root;
 
     public XMLDocument(URL url) {
         try (var inputStream = url.openStream()) {
-            var document = builder.parse(inputStream);
+            var document = builder.get().parse(inputStream);
             root = new XMLElement(document.getDocumentElement());
         } catch (Exception e) {
             throw new RuntimeException("Could not load xml document: " + url.getPath(), e);
         }
     }
 
+    private static DocumentBuilder buildDocumentBuilder() {
+        synchronized (factory) {
+            try {
+                return factory.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     public XMLElement getRoot() {
         return root;
     }
@@ -49,7 +51,7 @@ public final class XMLDocument {
             GameObject newParent = null;
             if (prefab != null) {
                 prefab.handleXMLElement(child);
-                newParent = prefab.instantiate();
+                newParent = prefab.obtain();
                 if (parent != null) {
                     var aligner = newParent.getComponent(Aligner.class);
                     if (aligner != null) {
@@ -183,6 +183,15 @@ public final class XMLElement {
         return Enum.valueOf(enumClass, getAttribute(attribute).trim().toUpperCase(Locale.ENGLISH));
     }
 
+    void preloadAssets() {
+        if (hasAttribute("texture") && getBoolean("cacheTexture", true)) {
+            getTexture("texture");
+        }
+        if (hasAttribute("font") && getBoolean("cacheFont", true)) {
+            getFont("font");
+        }
+    }
+
     void setAttribute(String attribute, String value) {
         element.setAttribute(attribute, value);
     }
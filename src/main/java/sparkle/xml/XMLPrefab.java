@@ -3,6 +3,8 @@ package sparkle.xml;
 import sparkle.components.Aligner;
 import sparkle.core.Component;
 import sparkle.core.GameObject;
+import sparkle.core.GameObjectPool;
+import sparkle.core.UpdatePolicy;
 import sparkle.math.Alignment;
 import sparkle.math.Bounds;
 import sparkle.math.Vector2;
@@ -12,6 +14,9 @@ import java.util.*;
 
 public abstract class XMLPrefab extends Prefab {
     private static final Map<String, Map<String, String>> cachedAttributes = new HashMap<>();
+    private static final Set<String> resetAttributes = Set.of("x", "y", "width", "height", "zIndex", "tags", "updateInterval", "sleepMargin", "pool");
+    private static final Map<String, GameObjectPool> pools = new HashMap<>();
+    private static final Map<String, GameObjectPool> elementPools = new HashMap<>();
     private final List<Component> components = new ArrayList<>();
     private Alignment alignment;
 
@@ -19,6 +24,10 @@ public abstract class XMLPrefab extends Prefab {
 
     protected abstract void setProperties(XMLElement xmlElement);
 
+    public static GameObjectPool getNamedPool(String name) {
+        return pools.computeIfAbsent(name, key -> new GameObjectPool());
+    }
+
     @Override
     protected final GameObject getBlankObject() {
         var gameObject = super.getBlankObject();
@@ -30,6 +39,17 @@ public abstract class XMLPrefab extends Prefab {
         return gameObject;
     }
 
+    @Override
+    protected void reset(GameObject gameObject) {
+        super.reset(gameObject);
+        components.clear();
+        var aligner = gameObject.getComponent(Aligner.class);
+        if (alignment != null && aligner != null) {
+            aligner.getOffset().set(gameObject.getPosition());
+            aligner.setBounds(null);
+        }
+    }
+
     void handleXMLElement(XMLElement xmlElement) {
         loadAttributes(xmlElement);
         loadComponents(xmlElement);
@@ -40,9 +60,19 @@ public abstract class XMLPrefab extends Prefab {
         super.getTags().clear();
         super.getTags().addAll(Arrays.stream(xmlElement.getString("tags").split(",")).map(String::trim).toList());
         alignment = xmlElement.getEnum(Alignment.class, "alignment");
+        super.setUpdatePolicy(new UpdatePolicy((int) xmlElement.getNumber("updateInterval", 1), xmlElement.getNumber("sleepMargin", -1)));
+        var pool = xmlElement.getString("pool");
+        super.setPool(pool.isEmpty() ? null : getElementPool(pool, xmlElement));
         setProperties(xmlElement);
     }
 
+    private GameObjectPool getElementPool(String pool, XMLElement xmlElement) {
+        var attributes = new TreeMap<>(xmlElement.getAttributes());
+        attributes.keySet().removeAll(resetAttributes);
+        var key = pool + '\n' + getTagName() + '\n' + attributes + '\n' + xmlElement.getRawText();
+        return elementPools.computeIfAbsent(key, k -> new GameObjectPool());
+    }
+
     private void loadAttributes(XMLElement xmlElement) {
         if (xmlElement.hasAttribute("attributes")) {
             getAttributes(xmlElement).forEach((attribute, value) -> {
@@ -15,6 +15,7 @@ public final class XMLPrefabRepository {
         addPrefab(new LinePrefab());
         addPrefab(new OvalPrefab());
         addPrefab(new RectanglePrefab());
+        addPrefab(new RenderLayerPrefab());
         addPrefab(new SpritePrefab());
         addPrefab(new TextPrefab());
         addPrefab(new XMLLoaderPrefab());
@@ -2,13 +2,32 @@ package sparkle.xml;
 
 import sparkle.core.Scene;
 
+import java.net.URL;
 import java.util.Objects;
 
 public class XMLScene extends Scene {
-    private final XMLDocument xmlDocument;
+    private final URL url;
+    private XMLDocument xmlDocument;
 
     public XMLScene(XMLDocument xmlDocument) {
         this.xmlDocument = Objects.requireNonNull(xmlDocument);
+        url = null;
+    }
+
+    public XMLScene(URL url) {
+        this.url = Objects.requireNonNull(url);
+    }
+
+    @Override
+    protected void load() {
+        if (xmlDocument == null) {
+            xmlDocument = new XMLDocument(url);
+        }
+        var elements = xmlDocument.getRoot().getElementsByName("*");
+        for (var i = 0; i < elements.size(); i++) {
+            elements.get(i).preloadAssets();
+            super.setLoadingProgress((i + 1) / (float) elements.size());
+        }
     }
 
     @Override